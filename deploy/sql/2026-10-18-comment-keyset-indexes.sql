@@ -0,0 +1,7 @@
+-- Indexes backing keyset (cursor) pagination of comments and replies.
+-- Production uses ddl-auto=none, so apply this script before deploying the cursor endpoints.
+-- idx_comment_post_created serves top-level pages ordered by (created_at, comment_id) per post.
+-- idx_comment_parent_created serves reply pages, reply counts and the first-N replies window query.
+
+CREATE INDEX idx_comment_post_created ON comment (post_id, created_at, comment_id);
+CREATE INDEX idx_comment_parent_created ON comment (parent_comment_id, created_at, comment_id);
@@ -0,0 +1,27 @@
+-- Denormalized per-gathering attendance counters.
+-- Production uses ddl-auto=none, so apply this script before deploying the counter-backed summaries.
+-- The backfill is the same upsert GatheringAttendanceCountReconciler runs nightly; re-running it is safe.
+
+CREATE TABLE IF NOT EXISTS gathering_attendance_count (
+    gathering_id  BIGINT NOT NULL,
+    attending     BIGINT NOT NULL,
+    not_attending BIGINT NOT NULL,
+    unanswered    BIGINT NOT NULL,
+    PRIMARY KEY (gathering_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT INTO gathering_attendance_count (gathering_id, attending, not_attending, unanswered)
+SELECT * FROM (
+    SELECT g.id AS gathering_id,
+           COALESCE(SUM(a.status = 'ATTENDING'), 0) AS attending,
+           COALESCE(SUM(a.status = 'NOT_ATTENDING'), 0) AS not_attending,
+           COALESCE(SUM(a.status = 'NOT_RESPONDED'), 0) AS unanswered
+    FROM gathering g
+    LEFT JOIN gathering_attendance a ON a.gathering_id = g.id
+    WHERE g.is_deleted = false
+    GROUP BY g.id
+) AS actual
+ON DUPLICATE KEY UPDATE
+    attending = actual.attending,
+    not_attending = actual.not_attending,
+    unanswered = actual.unanswered;
@@ -0,0 +1,7 @@
+-- Indexes backing the paged gathering list.
+-- Production uses ddl-auto=none, so apply this script before deploying the Slice-based list endpoint.
+-- idx_gathering_deleted_date serves ORDER BY gathering_date DESC, id DESC for non-deleted gatherings.
+-- idx_gathering_attendance_status covers the per-page GROUP BY gathering_id, status count.
+
+CREATE INDEX idx_gathering_deleted_date ON gathering (is_deleted, gathering_date, id);
+CREATE INDEX idx_gathering_attendance_status ON gathering_attendance (gathering_id, status);
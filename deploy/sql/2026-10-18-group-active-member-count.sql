@@ -0,0 +1,13 @@
+-- Denormalized ACTIVE member count on cbu_groups, maintained by GroupMember status transitions.
+-- Production uses ddl-auto=none, so apply this script before deploying the code that reads the column.
+-- The UPDATE backfills existing groups from group_member; new transitions keep it in sync afterwards.
+
+ALTER TABLE cbu_groups ADD COLUMN active_member_count INT NOT NULL DEFAULT 0;
+
+UPDATE cbu_groups g
+SET g.active_member_count = (
+    SELECT COUNT(*)
+    FROM group_member m
+    WHERE m.group_id = g.id
+      AND m.group_member_status = 'ACTIVE'
+);
@@ -0,0 +1,19 @@
+-- Transactional outbox for application result / onboarding mails.
+-- Production uses ddl-auto=none, so apply this script before deploying the outbox dispatcher.
+-- application_notification.status gains PENDING; the column is VARCHAR so no ALTER is needed.
+
+CREATE TABLE IF NOT EXISTS mail_outbox (
+    mail_outbox_id  BIGINT       NOT NULL AUTO_INCREMENT,
+    notification_id BIGINT       NULL,
+    template_type   VARCHAR(50)  NOT NULL,
+    recipient_email VARCHAR(255) NOT NULL,
+    recipient_name  VARCHAR(100) NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempt_count   INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      TEXT         NULL,
+    sent_at         DATETIME(6)  NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (mail_outbox_id),
+    KEY idx_mail_outbox_status_next_attempt (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
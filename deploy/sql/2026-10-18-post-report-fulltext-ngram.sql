@@ -0,0 +1,57 @@
+-- Report keyword search index.
+-- Production uses ddl-auto=none, so apply this script before deploying the FULLTEXT report search.
+-- Before applying, verify MySQL ngram parser is available and ngram_token_size=2.
+-- This script tolerates ddl-auto=update creating post_report.search_text before the migration runs.
+-- search_text mirrors PostReportSearchTextNormalizer: post title + author name.
+
+SET @has_post_report_search_text = (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'post_report'
+      AND COLUMN_NAME = 'search_text'
+);
+
+SET @add_post_report_search_text = IF(
+    @has_post_report_search_text = 0,
+    'ALTER TABLE post_report ADD COLUMN search_text TEXT NULL',
+    'SELECT 1'
+);
+
+PREPARE add_post_report_search_text_stmt FROM @add_post_report_search_text;
+EXECUTE add_post_report_search_text_stmt;
+DEALLOCATE PREPARE add_post_report_search_text_stmt;
+
+UPDATE post_report r
+JOIN post p ON p.post_id = r.post_id
+LEFT JOIN user m ON m.user_id = p.author_id
+SET r.search_text = TRIM(
+        REGEXP_REPLACE(CONCAT_WS(' ', p.title, m.name), '[[:space:]]+', ' ')
+    )
+WHERE r.search_text IS NULL
+   OR r.search_text = '';
+
+UPDATE post_report
+SET search_text = ''
+WHERE search_text IS NULL;
+
+ALTER TABLE post_report
+    MODIFY COLUMN search_text TEXT NOT NULL;
+
+SET @has_post_report_search_index = (
+    SELECT COUNT(*)
+    FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'post_report'
+      AND INDEX_NAME = 'ft_post_report_search_text_ngram'
+);
+
+SET @add_post_report_search_index = IF(
+    @has_post_report_search_index = 0,
+    'ALTER TABLE post_report ADD FULLTEXT INDEX ft_post_report_search_text_ngram (search_text) WITH PARSER ngram',
+    'SELECT 1'
+);
+
+PREPARE add_post_report_search_index_stmt FROM @add_post_report_search_index;
+EXECUTE add_post_report_search_index_stmt;
+DEALLOCATE PREPARE add_post_report_search_index_stmt;
@@ -0,0 +1,5 @@
+-- Index backing report list pages ordered by (created_at, post_id) within a post category.
+-- Production uses ddl-auto=none, so apply this script before deploying the report cursor endpoint.
+-- Keyset pages seek on (category, is_deleted, created_at, post_id) instead of scanning past an OFFSET.
+
+CREATE INDEX idx_post_category_deleted_created ON post (category, is_deleted, created_at, post_id);
@@ -3,6 +3,7 @@ package com.example.cbumanage.application.controller;
 import com.example.cbumanage.application.dto.AdminApplicationListResponse;
 import com.example.cbumanage.application.dto.ApplicationDetailResponse;
 import com.example.cbumanage.application.dto.ApplicationFinalDecisionUpdateRequest;
+import com.example.cbumanage.application.dto.ApplicationFinalizeProgressResponse;
 import com.example.cbumanage.application.dto.ApplicationFinalizeRequest;
 import com.example.cbumanage.application.entity.enums.ApplicationReview;
 import com.example.cbumanage.application.dto.RecruitmentSummaryResponse;
@@ -93,6 +94,14 @@ public class ApplicationAdminController {
         return ApiResponse.success();
     }
 
+    @GetMapping("/recruitments/{recruitmentUuid}/applications/finalize/progress")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_PRESIDENT', 'ROLE_VICE_PRESIDENT')")
+    @Operation(summary = "일괄 최종 처리 진행 현황",
+            description = "남은 검토 대상 수, 합격/불합격 수, 결과 메일 발송 대기/완료/실패 수를 조회합니다. 결과 메일은 비동기로 발송되므로 완료될 때까지 주기적으로 조회합니다.")
+    public ApiResponse<ApplicationFinalizeProgressResponse> getFinalizeProgress(@PathVariable String recruitmentUuid) {
+        return ApiResponse.success(applicationReviewService.getFinalizeProgress(recruitmentUuid));
+    }
+
     @PatchMapping("/applications/{applicationUuid}/final-decision")
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_PRESIDENT', 'ROLE_VICE_PRESIDENT')")
     @Operation(summary = "지원서 개별 최종 결정 수정",
@@ -0,0 +1,16 @@
+package com.example.cbumanage.application.dto;
+
+/**
+ * 일괄 최종처리 진행 현황. 결과 메일은 아웃박스에서 비동기로 발송되므로 화면에서 주기적으로 조회한다.
+ * 메일 건수는 해당 기수 신청서의 합격/불합격 안내 메일 기준이다.
+ */
+public record ApplicationFinalizeProgressResponse(
+        long submitted,     // 아직 최종 결정되지 않은 신청서
+        long accepted,      // 합격 (가입 완료 포함)
+        long rejected,
+        long mailPending,   // 발송 대기·재시도 중
+        long mailSent,
+        long mailFailed,
+        boolean completed   // 결정할 신청서가 없고 발송 대기 메일도 없음
+) {
+}
@@ -64,6 +64,17 @@ public class ApplicationNotification {
 
     // sent와 failed에 대한 정적 팩토리 메서드. 같은 클래스를 여러 다른 의도로 만들 때 사용한다.
 
+    // 아웃박스에 발송을 맡긴 직후의 이력. 디스패처가 발송 결과에 따라 SENT/FAILED 로 갱신한다.
+    public static ApplicationNotification pending(Long applicationId, String email,
+                                                  MailNotiType template) {
+        return ApplicationNotification.builder()
+                .memberApplicationId(applicationId)
+                .email(email)
+                .templateType(template)
+                .status(NotificationStatus.PENDING)
+                .build();
+    }
+
     public static ApplicationNotification sent(Long applicationId, String email,
                                                MailNotiType template) {
         return ApplicationNotification.builder()
@@ -84,4 +95,19 @@ public class ApplicationNotification {
                 .errorMessage(error)
                 .build();
     }
-}
\ No newline at end of file
+
+    public void markSent() {
+        this.status = NotificationStatus.SENT;
+        this.errorMessage = null;
+    }
+
+    // 재시도 중에는 PENDING 을 유지하고 마지막 오류만 남긴다.
+    public void recordRetry(String error) {
+        this.errorMessage = error;
+    }
+
+    public void markFailed(String error) {
+        this.status = NotificationStatus.FAILED;
+        this.errorMessage = error;
+    }
+}
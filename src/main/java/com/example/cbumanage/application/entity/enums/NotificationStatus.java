@@ -4,6 +4,7 @@ package com.example.cbumanage.application.entity.enums;
  * 이메일 발송 상태
  */
 public enum NotificationStatus {
+    PENDING,    // 발송 대기 (아웃박스)
     SENT,       // 보냈음
     FAILED,     // 실패함
     RECEIVED,
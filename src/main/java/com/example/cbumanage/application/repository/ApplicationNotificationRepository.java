@@ -1,8 +1,12 @@
 package com.example.cbumanage.application.repository;
 
 import com.example.cbumanage.application.entity.ApplicationNotification;
+import com.example.cbumanage.application.entity.enums.MailNotiType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +21,20 @@ public interface ApplicationNotificationRepository extends JpaRepository<Applica
 
     // 신청서별 발송 이력 (최신순)
     List<ApplicationNotification> findByMemberApplicationIdOrderByCreatedAtDesc(Long memberApplicationId);
+
+    /**
+     * 기수별 결과 메일 발송 상태 집계 (일괄 최종처리 진행 현황).
+     * 결과 형식: [status, count]
+     */
+    @Query("""
+           SELECT n.status, COUNT(n)
+           FROM ApplicationNotification n, MemberApplication m
+           WHERE m.id = n.memberApplicationId
+             AND m.generation = :generation
+             AND n.templateType IN :templateTypes
+           GROUP BY n.status
+           """)
+    List<Object[]> countByStatusGroupedForGeneration(
+            @Param("generation") Long generation,
+            @Param("templateTypes") Collection<MailNotiType> templateTypes);
 }
\ No newline at end of file
@@ -7,10 +7,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -110,4 +112,28 @@ public interface MemberApplicationRepository extends JpaRepository<MemberApplica
            """)
     List<Object[]> countByStatusGroupedForGeneration(@Param("generation") Long generation);
 
+    // === 일괄 처리 ===
+
+    /**
+     * 일괄 최종처리. 아직 SUBMITTED 인 신청서만 한 번의 UPDATE 로 결정 상태로 바꾼다.
+     * 반영된 행 수를 반환하므로, ids 개수와 다르면 그 사이 다른 요청이 상태를 바꾼 것이다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+           UPDATE MemberApplication m
+           SET m.status = :status,
+               m.finalDecidedBy = :decidedBy,
+               m.finalDecisionReason = NULL,
+               m.decidedAt = :decidedAt,
+               m.updatedAt = :decidedAt
+           WHERE m.id IN :ids
+             AND m.status = :expectedStatus
+           """)
+    int updateStatusForDecision(
+            @Param("ids") Collection<Long> ids,
+            @Param("expectedStatus") ApplicationStatus expectedStatus,
+            @Param("status") ApplicationStatus status,
+            @Param("decidedBy") Long decidedBy,
+            @Param("decidedAt") LocalDateTime decidedAt);
+
 }
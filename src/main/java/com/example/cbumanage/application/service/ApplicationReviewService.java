@@ -3,12 +3,13 @@ package com.example.cbumanage.application.service;
 import com.example.cbumanage.application.dto.AdminApplicationListResponse;
 import com.example.cbumanage.application.dto.ApplicationFinalDecisionUpdateRequest;
 import com.example.cbumanage.application.dto.ApplicationDetailResponse;
+import com.example.cbumanage.application.dto.ApplicationFinalizeProgressResponse;
 import com.example.cbumanage.application.dto.ApplicationFinalizeRequest;
 import com.example.cbumanage.application.dto.ApplicationListItemResponse;
-import com.example.cbumanage.application.entity.ApplicationNotification;
 import com.example.cbumanage.application.entity.enums.ApplicationReview;
 import com.example.cbumanage.application.entity.enums.FinalDecision;
 import com.example.cbumanage.application.entity.enums.MailNotiType;
+import com.example.cbumanage.application.entity.enums.NotificationStatus;
 import com.example.cbumanage.application.dto.RecruitmentResponse;
 import com.example.cbumanage.application.dto.RecruitmentSummaryResponse;
 import com.example.cbumanage.application.dto.VoteRequest;
@@ -24,8 +25,7 @@ import com.example.cbumanage.application.repository.ApplicationPortfolioUrlRepos
 import com.example.cbumanage.application.repository.ApplicationVoteRepository;
 import com.example.cbumanage.application.repository.MemberApplicationRepository;
 import com.example.cbumanage.application.repository.RecruitmentRepository;
-import com.example.cbumanage.email.dto.EmailAuthResponseDTO;
-import com.example.cbumanage.email.service.EmailService;
+import com.example.cbumanage.email.service.MailOutboxService;
 import com.example.cbumanage.global.error.BaseException;
 import com.example.cbumanage.global.error.ErrorCode;
 import com.example.cbumanage.user.entity.Role;
@@ -39,6 +39,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
@@ -59,7 +60,7 @@ public class ApplicationReviewService {
     private final ApplicationAnswerRepository applicationAnswerRepository;
     private final ApplicationPortfolioUrlRepository applicationPortfolioUrlRepository;
     private final UserRepository userRepository;
-    private final EmailService emailService;
+    private final MailOutboxService mailOutboxService;
     private final ApplicationNotificationRepository applicationNotificationRepository;
 
     /**
@@ -325,6 +326,8 @@ public class ApplicationReviewService {
      * 일괄 최종처리.
      * 검토대상(SUBMITTED) 전체가 1. 빠짐없이 결정되고(보류 없음) 2. 투표 완료(n==N)여야 처리된다.
      * ACCEPT는 ADMIN_ACCEPTED, REJECT는 ADMIN_REJECTED로 전이된.
+     * 상태는 결정별 UPDATE 한 번씩, 결과 메일은 아웃박스에 batch INSERT 로 적재하며 실제 발송은 커밋 이후 비동기로 진행된다.
+     * 발송 진행 상황은 getFinalizeProgress 로 조회한다.
      */
     @Transactional
     public void finalizeDecisions(String recruitmentUuid, Long currentUserId, ApplicationFinalizeRequest request) {
@@ -363,17 +366,77 @@ public class ApplicationReviewService {
             }
         }
 
-        // ③ 적용
+        // ③ 적용: 합격/불합격을 각각 한 번의 UPDATE 로 반영하고 결과 메일을 한꺼번에 예약한다.
+        List<MemberApplication> accepted = new ArrayList<>();
+        List<MemberApplication> rejected = new ArrayList<>();
         for (MemberApplication application : targets) {
-            FinalDecision decision = decisionByUuid.get(application.getApplicationUuid());
-            if (decision == FinalDecision.ACCEPT) {
-                application.accept(currentUserId);
-                sendResultEmail(application, true);
+            if (decisionByUuid.get(application.getApplicationUuid()) == FinalDecision.ACCEPT) {
+                accepted.add(application);
             } else {
-                application.reject(currentUserId, null);
-                sendResultEmail(application, false);
+                rejected.add(application);
             }
         }
+        LocalDateTime decidedAt = LocalDateTime.now();
+        applyDecision(accepted, ApplicationStatus.ADMIN_ACCEPTED, currentUserId, decidedAt);
+        applyDecision(rejected, ApplicationStatus.ADMIN_REJECTED, currentUserId, decidedAt);
+
+        List<MailOutboxService.ApplicationMail> mails = new ArrayList<>(targets.size());
+        accepted.forEach(application -> mails.add(resultMail(application, MailNotiType.ACCEPTED)));
+        rejected.forEach(application -> mails.add(resultMail(application, MailNotiType.REJECTED)));
+        mailOutboxService.enqueueAll(mails);
+    }
+
+    // 검증 이후 다른 요청이 상태를 바꿨다면 반영 건수가 달라지므로 전체를 롤백한다.
+    private void applyDecision(List<MemberApplication> applications, ApplicationStatus status,
+                               Long decidedBy, LocalDateTime decidedAt) {
+        if (applications.isEmpty()) {
+            return;
+        }
+        List<Long> ids = applications.stream().map(MemberApplication::getId).toList();
+        int updated = memberApplicationRepository.updateStatusForDecision(
+                ids, ApplicationStatus.SUBMITTED, status, decidedBy, decidedAt);
+        if (updated != ids.size()) {
+            throw new BaseException(ErrorCode.INVALID_APPLICATION_STATUS);
+        }
+    }
+
+    private MailOutboxService.ApplicationMail resultMail(MemberApplication application, MailNotiType type) {
+        return new MailOutboxService.ApplicationMail(
+                application.getId(), type, application.getEmail(), application.getName());
+    }
+
+    /**
+     * 일괄 최종처리 진행 현황 (결정 현황 + 결과 메일 발송 상태).
+     */
+    @Transactional(readOnly = true)
+    public ApplicationFinalizeProgressResponse getFinalizeProgress(String recruitmentUuid) {
+        Recruitment recruitment = recruitmentRepository.findByRecruitmentUuid(recruitmentUuid)
+                .orElseThrow(() -> new BaseException(ErrorCode.RECRUITMENT_NOT_FOUND));
+        Long generation = recruitment.getGeneration();
+
+        Map<ApplicationStatus, Long> countByStatus = new EnumMap<>(ApplicationStatus.class);
+        for (Object[] row : memberApplicationRepository.countByStatusGroupedForGeneration(generation)) {
+            countByStatus.put((ApplicationStatus) row[0], (Long) row[1]);
+        }
+        Map<NotificationStatus, Long> mailCountByStatus = new EnumMap<>(NotificationStatus.class);
+        for (Object[] row : applicationNotificationRepository.countByStatusGroupedForGeneration(
+                generation, List.of(MailNotiType.ACCEPTED, MailNotiType.REJECTED))) {
+            mailCountByStatus.put((NotificationStatus) row[0], (Long) row[1]);
+        }
+
+        long submitted = countByStatus.getOrDefault(ApplicationStatus.SUBMITTED, 0L);
+        long accepted = countByStatus.getOrDefault(ApplicationStatus.ADMIN_ACCEPTED, 0L)
+                + countByStatus.getOrDefault(ApplicationStatus.NOTIFIED, 0L)
+                + countByStatus.getOrDefault(ApplicationStatus.COMPLETED, 0L);
+        long mailPending = mailCountByStatus.getOrDefault(NotificationStatus.PENDING, 0L);
+        return new ApplicationFinalizeProgressResponse(
+                submitted,
+                accepted,
+                countByStatus.getOrDefault(ApplicationStatus.ADMIN_REJECTED, 0L),
+                mailPending,
+                mailCountByStatus.getOrDefault(NotificationStatus.SENT, 0L),
+                mailCountByStatus.getOrDefault(NotificationStatus.FAILED, 0L),
+                submitted == 0 && mailPending == 0);
     }
 
     @Transactional
@@ -401,21 +464,10 @@ public class ApplicationReviewService {
         application.hold(currentUserId, request.reason());
     }
 
+    // 메일은 커밋 이후 MailOutboxDispatcher 가 발송하고, 성공 시 notifiedAt 을 기록한다.
     private void sendResultEmail(MemberApplication application, boolean accepted) {
-        EmailAuthResponseDTO result = emailService.sendApplicationResultEmail(
-                application.getEmail(), application.getName(), accepted);
-        if (result == null) {
-            result = new EmailAuthResponseDTO(false, "메일 발송 결과를 확인할 수 없습니다.");
-        }
         MailNotiType type = accepted ? MailNotiType.ACCEPTED : MailNotiType.REJECTED;
-        ApplicationNotification notification = result.isSuccess()
-                ? ApplicationNotification.sent(application.getId(), application.getEmail(), type)
-                : ApplicationNotification.failed(application.getId(), application.getEmail(), type,
-                result.getResponseMessage());
-        applicationNotificationRepository.save(notification);
-        if (result.isSuccess()) {
-            application.markNotified();
-        }
+        mailOutboxService.enqueue(application.getId(), type, application.getEmail(), application.getName());
     }
 
     /**
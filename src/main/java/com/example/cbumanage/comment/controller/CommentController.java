@@ -11,10 +11,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -40,6 +42,35 @@ public class CommentController {
         return ApiResponse.success(commentService.getComments(postId));
     }
 
+    @Operation(
+            summary = "댓글 커서 페이지 조회",
+            description = "최상위 댓글을 작성 순으로 size개씩 반환합니다. 각 댓글에는 전체 답글 수(replyCount)와 앞쪽 답글 3개가 포함됩니다.<br>" +
+                    "첫 페이지는 커서 없이 요청하고, hasNext가 true면 응답의 nextCursorCreatedAt, nextCursorId를 그대로 넘겨 다음 페이지를 요청합니다."
+    )
+    @GetMapping("post/{postId}/comment/cursor")
+    public ApiResponse<CommentDTO.CommentCursorPageDTO<CommentDTO.CommentThreadDTO>> getCommentPage(
+            @PathVariable Long postId,
+            @Parameter(description = "직전 페이지 마지막 댓글의 작성 일시") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @Parameter(description = "직전 페이지 마지막 댓글 ID") @RequestParam(required = false) Long cursorId,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(commentService.getCommentPage(postId, cursorCreatedAt, cursorId, size));
+    }
+
+    @Operation(
+            summary = "답글 커서 페이지 조회",
+            description = "댓글의 답글을 작성 순으로 size개씩 반환합니다. 커서 사용법은 댓글 커서 페이지 조회와 같습니다."
+    )
+    @GetMapping("comment/{commentId}/replies")
+    public ApiResponse<CommentDTO.CommentCursorPageDTO<CommentDTO.CommentInfoDTO>> getReplyPage(
+            @PathVariable Long commentId,
+            @Parameter(description = "직전 페이지 마지막 답글의 작성 일시") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @Parameter(description = "직전 페이지 마지막 답글 ID") @RequestParam(required = false) Long cursorId,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(commentService.getReplyPage(commentId, cursorCreatedAt, cursorId, size));
+    }
+
     @Operation(
             summary = "익명 게시글 댓글 목록 조회",
             description = "익명 게시글(isAnonymous=true)의 댓글 목록을 작성자 정보 없이 반환합니다.<br>" +
@@ -1,6 +1,7 @@
 package com.example.cbumanage.comment.dto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class CommentDTO {
 
@@ -14,6 +15,21 @@ public class CommentDTO {
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {}
+    // 최상위 댓글과 답글 수, 앞쪽 답글 일부 (나머지 답글은 답글 커서 조회로 이어서 불러옵니다)
+    public record CommentThreadDTO(
+            CommentInfoDTO comment,
+            long replyCount,
+            List<CommentInfoDTO> replies
+    ) {}
+
+    // 키셋 페이지 응답. hasNext가 true면 nextCursorCreatedAt, nextCursorId로 다음 페이지를 요청합니다
+    public record CommentCursorPageDTO<T>(
+            List<T> items,
+            boolean hasNext,
+            LocalDateTime nextCursorCreatedAt,
+            Long nextCursorId
+    ) {}
+
     public record CommentCreateRequestDTO(String content) {}
 
     public record CommentCreateResponseDTO(
@@ -16,7 +16,10 @@ import java.util.List;
 
 @Entity
 @NoArgsConstructor
-@Table(name="comment")
+@Table(name="comment", indexes = {
+        @Index(name = "idx_comment_post_created", columnList = "post_id, created_at, comment_id"),
+        @Index(name = "idx_comment_parent_created", columnList = "parent_comment_id, created_at, comment_id")
+})
 @Getter
 @EntityListeners(AuditingEntityListener.class)
 public class Comment {
@@ -41,7 +44,7 @@ public class Comment {
     /*
     답글 구조를 위해 댓글-댓글을 1:n 으로 묶고, 연관관계가 강하기에 엔티티로 연결했습니다
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="parent_comment_id",nullable = true)
     private Comment parentComment;
 
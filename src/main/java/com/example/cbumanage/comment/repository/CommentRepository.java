@@ -1,12 +1,18 @@
 package com.example.cbumanage.comment.repository;
 
 import com.example.cbumanage.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -32,4 +38,103 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId AND c.isDeleted = false")
     Long countByPostId(Long postId);
+
+    /*
+    여러 게시글의 댓글 수를 한 번의 쿼리로 집계합니다. 댓글이 없는 게시글은 결과에 포함되지 않습니다
+    결과 형식: [postId, count]
+     */
+    @Query("""
+    select c.post.id, count(c)
+    from Comment c
+    where c.post.id in :postIds and c.isDeleted = false
+    group by c.post.id
+""")
+    List<Object[]> countGroupByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /*
+    countGroupByPostIds 결과를 postId → 댓글 수 맵으로 돌려줍니다. 댓글이 없는 게시글은 맵에 없으므로 조회 시 0으로 처리합니다
+     */
+    default Map<Long, Long> countCommentsByPostIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Long> result = new HashMap<>();
+        for (Object[] row : countGroupByPostIds(postIds)) {
+            result.put((Long) row[0], (Long) row[1]);
+        }
+        return result;
+    }
+
+    /*
+    게시글의 최상위 댓글을 (createdAt, id) 키셋으로 페이지 조회합니다.
+    첫 페이지는 커서 없이, 이후 페이지는 직전 페이지 마지막 댓글의 (createdAt, id) 이후부터 가져옵니다
+     */
+    @Query("""
+    select c
+    from Comment c
+    where c.post.id = :postId and c.parentComment is null
+    order by c.createdAt asc, c.id asc
+""")
+    Slice<Comment> findRootsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("""
+    select c
+    from Comment c
+    where c.post.id = :postId and c.parentComment is null
+      and (c.createdAt > :cursorCreatedAt or (c.createdAt = :cursorCreatedAt and c.id > :cursorId))
+    order by c.createdAt asc, c.id asc
+""")
+    Slice<Comment> findRootsByPostIdAfter(@Param("postId") Long postId,
+                                          @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
+
+    // 특정 댓글의 답글을 (createdAt, id) 키셋으로 페이지 조회합니다
+    @Query("""
+    select c
+    from Comment c
+    where c.parentComment.id = :parentId
+    order by c.createdAt asc, c.id asc
+""")
+    Slice<Comment> findRepliesByParentId(@Param("parentId") Long parentId, Pageable pageable);
+
+    @Query("""
+    select c
+    from Comment c
+    where c.parentComment.id = :parentId
+      and (c.createdAt > :cursorCreatedAt or (c.createdAt = :cursorCreatedAt and c.id > :cursorId))
+    order by c.createdAt asc, c.id asc
+""")
+    Slice<Comment> findRepliesByParentIdAfter(@Param("parentId") Long parentId,
+                                              @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
+
+    /*
+    여러 댓글의 답글 수를 한 번에 집계합니다. 삭제된 답글도 목록에 "삭제된 댓글입니다"로 노출되므로 포함합니다
+    결과 형식: [parentCommentId, count]
+     */
+    @Query("""
+    select c.parentComment.id, count(c)
+    from Comment c
+    where c.parentComment.id in :parentIds
+    group by c.parentComment.id
+""")
+    List<Object[]> countRepliesGroupByParentIds(@Param("parentIds") Collection<Long> parentIds);
+
+    /*
+    여러 댓글 각각의 앞쪽 답글 limit 개의 id를 한 번에 조회합니다 (ROW_NUMBER 윈도 함수)
+     */
+    @Query(value = """
+    select ranked.comment_id
+    from (
+        select c.comment_id,
+               row_number() over (partition by c.parent_comment_id order by c.created_at, c.comment_id) as rn
+        from comment c
+        where c.parent_comment_id in (:parentIds)
+    ) ranked
+    where ranked.rn <= :limit
+""", nativeQuery = true)
+    List<Long> findFirstReplyIdsByParentIds(@Param("parentIds") Collection<Long> parentIds,
+                                            @Param("limit") int limit);
 }
@@ -7,22 +7,35 @@ import com.example.cbumanage.post.entity.Post;
 import com.example.cbumanage.comment.repository.CommentRepository;
 import com.example.cbumanage.post.repository.PostRepository;
 import com.example.cbumanage.comment.util.CommentMapper;
+import com.example.cbumanage.global.error.BaseException;
+import com.example.cbumanage.global.error.ErrorCode;
 import com.example.cbumanage.user.entity.Role;
 import com.example.cbumanage.user.entity.User;
 import com.example.cbumanage.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    // 키셋 페이지 한 번에 가져올 수 있는 최대 댓글 수
+    private static final int MAX_PAGE_SIZE = 50;
+    // 최상위 댓글마다 함께 내려주는 앞쪽 답글 수
+    private static final int INLINE_REPLY_COUNT = 3;
+
     private final CommentRepository commentRepository;
     private final CommentMapper commentMapper;
     private final PostRepository postRepository;
@@ -59,12 +72,77 @@ public class CommentService {
 
     /*
     포스트에 달린 댓글을 모두 불러오는 메소드입니다.
-    답글은 댓글에 붙어서 오기에, 답글이 아닌댓글(부모댓글이 없는 댓글)만 불러온후, 답글 목록을 포함한 댓글의 DTO로 변환시킨후 반환합니다
+    댓글은 한 번의 쿼리로, 작성자는 findAllById 한 번으로 불러온 뒤 부모 댓글 → 답글 순서로 정렬해 반환합니다
      */
     public List<CommentDTO.CommentInfoDTO> getComments(Long postId) {
         Post post = postRepository.findById(postId).orElseThrow(() -> new EntityNotFoundException("Post not found"));
         List<Comment> comments = commentRepository.findByPostId(postId);
-        return comments.stream().map(comment -> commentMapper.toCommentInfoDTO(comment)).toList();
+        return commentMapper.toCommentInfoDTOList(comments);
+    }
+
+    /*
+    최상위 댓글을 (createdAt, commentId) 키셋으로 페이지 조회합니다.
+    댓글마다 전체 답글 수와 앞쪽 답글 INLINE_REPLY_COUNT개를 함께 반환하며,
+    스레드 길이와 무관하게 페이지당 쿼리 수(댓글, 답글 수 집계, 앞쪽 답글 id, 답글, 작성자)가 일정합니다
+     */
+    public CommentDTO.CommentCursorPageDTO<CommentDTO.CommentThreadDTO> getCommentPage(
+            Long postId, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        if (!postRepository.existsById(postId)) {
+            throw new BaseException(ErrorCode.NOT_FOUND);
+        }
+        Pageable pageable = PageRequest.of(0, pageSize(size));
+        Slice<Comment> roots = hasCursor(cursorCreatedAt, cursorId)
+                ? commentRepository.findRootsByPostIdAfter(postId, cursorCreatedAt, cursorId, pageable)
+                : commentRepository.findRootsByPostId(postId, pageable);
+
+        List<Long> rootIds = roots.getContent().stream().map(Comment::getId).toList();
+        Map<Long, Long> replyCounts = new HashMap<>();
+        List<Comment> inlineReplies = List.of();
+        if (!rootIds.isEmpty()) {
+            for (Object[] row : commentRepository.countRepliesGroupByParentIds(rootIds)) {
+                replyCounts.put((Long) row[0], (Long) row[1]);
+            }
+            List<Long> replyIds = commentRepository.findFirstReplyIdsByParentIds(rootIds, INLINE_REPLY_COUNT);
+            if (!replyIds.isEmpty()) {
+                inlineReplies = commentRepository.findAllById(replyIds);
+            }
+        }
+        return toCursorPage(roots, commentMapper.toCommentThreadDTOList(roots.getContent(), replyCounts, inlineReplies));
+    }
+
+    /*
+    특정 댓글의 답글을 (createdAt, commentId) 키셋으로 페이지 조회합니다. 인라인 답글 이후를 이어 불러올 때 사용합니다
+     */
+    public CommentDTO.CommentCursorPageDTO<CommentDTO.CommentInfoDTO> getReplyPage(
+            Long commentId, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        if (!commentRepository.existsById(commentId)) {
+            throw new BaseException(ErrorCode.NOT_FOUND);
+        }
+        Pageable pageable = PageRequest.of(0, pageSize(size));
+        Slice<Comment> replies = hasCursor(cursorCreatedAt, cursorId)
+                ? commentRepository.findRepliesByParentIdAfter(commentId, cursorCreatedAt, cursorId, pageable)
+                : commentRepository.findRepliesByParentId(commentId, pageable);
+        return toCursorPage(replies, commentMapper.toCommentInfoDTOList(replies.getContent()));
+    }
+
+    // 커서는 (createdAt, commentId) 두 값이 함께 있어야 합니다
+    private boolean hasCursor(LocalDateTime cursorCreatedAt, Long cursorId) {
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new BaseException(ErrorCode.INVALID_REQUEST);
+        }
+        return cursorCreatedAt != null;
+    }
+
+    private int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private <T> CommentDTO.CommentCursorPageDTO<T> toCursorPage(Slice<Comment> slice, List<T> items) {
+        if (!slice.hasNext()) {
+            return new CommentDTO.CommentCursorPageDTO<>(items, false, null, null);
+        }
+        Comment last = slice.getContent().get(slice.getNumberOfElements() - 1);
+        return new CommentDTO.CommentCursorPageDTO<>(items, true, last.getCreatedAt(), last.getId());
     }
 
     /*
@@ -114,9 +192,7 @@ public class CommentService {
     public List<CommentDTO.FreeBoardCommentResponse> getFreeBoardComments(Long postId) {
         postRepository.findById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("Post not found"));
-        return commentRepository.findByPostId(postId).stream()
-                .map(commentMapper::toFreeBoardCommentDTO)
-                .toList();
+        return commentMapper.toFreeBoardCommentDTOList(commentRepository.findByPostId(postId));
     }
 
     boolean isAuthor(Long userId,Comment comment){
@@ -4,10 +4,20 @@ import com.example.cbumanage.comment.dto.CommentDTO;
 import com.example.cbumanage.comment.entity.Comment;
 import com.example.cbumanage.user.entity.User;
 import com.example.cbumanage.user.repository.UserRepository;
-import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Component
 public class CommentMapper {
 
@@ -18,15 +28,48 @@ public class CommentMapper {
         this.userRepository = userRepository;
     }
 
-    public CommentDTO.CommentInfoDTO toCommentInfoDTO(Comment comment) {
-        User user = userRepository.findById(comment.getUserId()).orElseThrow(() -> new EntityNotFoundException("user Not Found"));
+    /*
+    댓글 목록을 한 번에 변환합니다. 작성자는 findAllById 한 번으로 조회하고,
+    결과는 부모 댓글 바로 뒤에 답글이 오는 스레드 순서로 반환합니다
+     */
+    public List<CommentDTO.CommentInfoDTO> toCommentInfoDTOList(List<Comment> comments) {
+        Map<Long, User> authors = userRepository.findAllByIdAsMap(comments.stream().map(Comment::getUserId).toList());
+        return toThreadOrder(comments).stream()
+                .map(comment -> toCommentInfoDTO(comment, UserRepository.requireUser(authors, comment.getUserId(), "user Not Found")))
+                .toList();
+    }
+
+    /*
+    키셋 페이지의 최상위 댓글을 답글 수, 앞쪽 답글과 함께 변환합니다.
+    최상위 댓글과 앞쪽 답글의 작성자를 findAllById 한 번으로 조회합니다
+     */
+    public List<CommentDTO.CommentThreadDTO> toCommentThreadDTOList(List<Comment> roots,
+                                                                  Map<Long, Long> replyCounts,
+                                                                  List<Comment> inlineReplies) {
+        Map<Long, User> authors = userRepository.findAllByIdAsMap(Stream.concat(roots.stream(), inlineReplies.stream())
+                .map(Comment::getUserId)
+                .toList());
+        Map<Long, List<Comment>> repliesByParentId = inlineReplies.stream()
+                .sorted(Comparator.comparing(Comment::getCreatedAt).thenComparing(Comment::getId))
+                .collect(Collectors.groupingBy(this::parentIdOf));
+        return roots.stream()
+                .map(root -> new CommentDTO.CommentThreadDTO(
+                        toCommentInfoDTO(root, UserRepository.requireUser(authors, root.getUserId(), "user Not Found")),
+                        replyCounts.getOrDefault(root.getId(), 0L),
+                        repliesByParentId.getOrDefault(root.getId(), List.of()).stream()
+                                .map(reply -> toCommentInfoDTO(reply, UserRepository.requireUser(authors, reply.getUserId(), "user Not Found")))
+                                .toList()))
+                .toList();
+    }
+
+    private CommentDTO.CommentInfoDTO toCommentInfoDTO(Comment comment, User user) {
         return new CommentDTO.CommentInfoDTO(
                 comment.getId(),
                 comment.getUserId(),
                 user.getGeneration(),
                 user.getName(),
                 comment.isDeleted() ? "삭제된 댓글입니다" : comment.getContent(),
-                comment.getParentComment() != null ? comment.getParentComment().getId() : null,
+                parentIdOf(comment),
                 comment.getCreatedAt(),
                 comment.getUpdatedAt()
         );
@@ -37,7 +80,7 @@ public class CommentMapper {
                 comment.getId(),
                 comment.isDeleted() ? "삭제된 댓글입니다" : comment.getContent(),
                 comment.getCreatedAt(),
-                comment.getParentComment() != null ? comment.getParentComment().getId() : null
+                parentIdOf(comment)
         );
     }
 
@@ -61,27 +104,79 @@ public class CommentMapper {
         );
     }
 
-    public CommentDTO.FreeBoardCommentResponse toFreeBoardCommentDTO(Comment comment) {
+    /*
+    자유게시판 댓글 목록 변환입니다. 익명 댓글은 작성자를 조회하지 않으며,
+    실명 댓글 작성자만 findAllById 한 번으로 조회합니다
+     */
+    public List<CommentDTO.FreeBoardCommentResponse> toFreeBoardCommentDTOList(List<Comment> comments) {
+        Map<Long, User> authors = userRepository.findAllByIdAsMap(comments.stream()
+                .filter(comment -> !comment.isAnonymous())
+                .map(Comment::getUserId)
+                .toList());
+        return toThreadOrder(comments).stream()
+                .map(comment -> toFreeBoardCommentDTO(comment, authors))
+                .toList();
+    }
+
+    private CommentDTO.FreeBoardCommentResponse toFreeBoardCommentDTO(Comment comment, Map<Long, User> authors) {
         if (comment.isAnonymous()) {
             return new CommentDTO.FreeBoardCommentAnonymousInfoDTO(
                     comment.getId(),
                     comment.isDeleted() ? "삭제된 댓글입니다" : comment.getContent(),
-                    comment.getParentComment() != null ? comment.getParentComment().getId() : null,
+                    parentIdOf(comment),
                     comment.getCreatedAt(),
                     true
             );
         }
-        User user = userRepository.findById(comment.getUserId())
-                .orElseThrow(() -> new EntityNotFoundException("User Not Found"));
+        User user = UserRepository.requireUser(authors, comment.getUserId(), "User Not Found");
         return new CommentDTO.FreeBoardCommentInfoDTO(
                 comment.getId(),
                 comment.getUserId(),
                 user.getGeneration(),
                 user.getName(),
                 comment.isDeleted() ? "삭제된 댓글입니다" : comment.getContent(),
-                comment.getParentComment() != null ? comment.getParentComment().getId() : null,
+                parentIdOf(comment),
                 comment.getCreatedAt(),
                 false
         );
     }
-}
\ No newline at end of file
+
+    /*
+    작성일 순으로 정렬된 댓글을 부모 → 답글(→ 답글의 답글) 순서로 재배치합니다.
+    부모 id로 한 번 묶은 뒤 깊이 우선으로 펼치므로 댓글 수에 비례(O(n))하며,
+    같은 부모 아래의 답글은 기존 작성일 순서를 유지합니다
+     */
+    private List<Comment> toThreadOrder(List<Comment> comments) {
+        Set<Long> commentIds = comments.stream().map(Comment::getId).collect(Collectors.toSet());
+        Map<Long, List<Comment>> repliesByParentId = new HashMap<>();
+        List<Comment> roots = new ArrayList<>();
+        for (Comment comment : comments) {
+            Long parentId = parentIdOf(comment);
+            if (parentId == null || !commentIds.contains(parentId)) {
+                roots.add(comment);
+            } else {
+                repliesByParentId.computeIfAbsent(parentId, id -> new ArrayList<>()).add(comment);
+            }
+        }
+
+        List<Comment> ordered = new ArrayList<>(comments.size());
+        Deque<Comment> stack = new ArrayDeque<>();
+        for (Comment root : roots) {
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Comment current = stack.pop();
+                ordered.add(current);
+                List<Comment> replies = repliesByParentId.getOrDefault(current.getId(), List.of());
+                for (int i = replies.size() - 1; i >= 0; i--) {
+                    stack.push(replies.get(i));
+                }
+            }
+        }
+        return ordered;
+    }
+
+    // parentComment 는 지연 로딩 프록시이므로 id만 읽어 추가 쿼리가 발생하지 않습니다
+    private Long parentIdOf(Comment comment) {
+        return comment.getParentComment() != null ? comment.getParentComment().getId() : null;
+    }
+}
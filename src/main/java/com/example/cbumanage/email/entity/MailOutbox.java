@@ -0,0 +1,115 @@
+package com.example.cbumanage.email.entity;
+
+import com.example.cbumanage.application.entity.enums.MailNotiType;
+import com.example.cbumanage.email.entity.enums.MailOutboxStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 메일.
+ * 신청 결과/온보딩 메일을 비즈니스 트랜잭션 안에서 이 테이블에 기록만 하고,
+ * 실제 SMTP 발송은 MailOutboxDispatcher 가 커밋 이후 비동기로 처리한다.
+ */
+@Entity
+@Table(name = "mail_outbox",
+        indexes = {
+                @Index(name = "idx_mail_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_outbox_id")
+    private Long id;
+
+    // 발송 결과를 반영할 신청서 알림 이력 (신청서와 연결되지 않은 온보딩 메일은 null)
+    @Column(name = "notification_id")
+    private Long notificationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "template_type", nullable = false, length = 50)
+    private MailNotiType templateType;
+
+    @Column(name = "recipient_email", nullable = false, length = 255)
+    private String recipientEmail;
+
+    @Column(name = "recipient_name", length = 100)
+    private String recipientName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MailOutboxStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    // PENDING 이면 다음 발송 시각, PROCESSING 이면 점유 만료 시각
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    private MailOutbox(Long notificationId, MailNotiType templateType,
+                       String recipientEmail, String recipientName) {
+        this.notificationId = notificationId;
+        this.templateType = templateType;
+        this.recipientEmail = recipientEmail;
+        this.recipientName = recipientName;
+        this.status = MailOutboxStatus.PENDING;
+        this.attemptCount = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public static MailOutbox pending(Long notificationId, MailNotiType templateType,
+                                     String recipientEmail, String recipientName) {
+        return MailOutbox.builder()
+                .notificationId(notificationId)
+                .templateType(templateType)
+                .recipientEmail(recipientEmail)
+                .recipientName(recipientName)
+                .build();
+    }
+
+    public void markProcessing(LocalDateTime leaseUntil) {
+        this.status = MailOutboxStatus.PROCESSING;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markSent() {
+        this.status = MailOutboxStatus.SENT;
+        this.attemptCount++;
+        this.sentAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    // 재시도 가능한 실패. 다음 발송 시각까지 PENDING 으로 되돌린다.
+    public void markRetry(String error, LocalDateTime nextAttemptAt) {
+        this.status = MailOutboxStatus.PENDING;
+        this.attemptCount++;
+        this.lastError = error;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void markFailed(String error) {
+        this.status = MailOutboxStatus.FAILED;
+        this.attemptCount++;
+        this.lastError = error;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.cbumanage.email.entity.enums;
+
+/**
+ * 메일 아웃박스 처리 상태
+ */
+public enum MailOutboxStatus {
+    PENDING,     // 발송 대기 (재시도 대기 포함)
+    PROCESSING,  // 디스패처가 점유하여 발송 중
+    SENT,        // 발송 완료
+    FAILED,      // 최대 재시도 횟수 초과
+}
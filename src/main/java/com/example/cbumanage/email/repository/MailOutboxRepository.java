@@ -0,0 +1,26 @@
+package com.example.cbumanage.email.repository;
+
+import com.example.cbumanage.email.entity.MailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    /**
+     * 발송 시각이 도래한 대기 메일과 점유가 만료된(디스패처 비정상 종료) 메일을 잠그며 가져온다.
+     * SKIP LOCKED 로 여러 인스턴스가 같은 행을 중복 발송하지 않는다.
+     */
+    @Query(value = """
+            SELECT * FROM mail_outbox
+            WHERE status IN ('PENDING', 'PROCESSING')
+              AND next_attempt_at <= :now
+            ORDER BY mail_outbox_id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<MailOutbox> lockDueForDispatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
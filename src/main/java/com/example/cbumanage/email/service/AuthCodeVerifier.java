@@ -0,0 +1,112 @@
+package com.example.cbumanage.email.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 메일 인증번호의 저장과 확인을 담당합니다.
+ * <p>
+ * 확인은 Lua 스크립트 한 번으로 처리합니다. 조회, 시도 횟수 증가(처음이면 만료 설정), 비교,
+ * 일치 시 소모(삭제)가 한 번의 왕복 안에서 원자적으로 끝나므로 같은 인증번호를 동시에 두 번 쓸 수 없고,
+ * 동시에 여러 요청을 보내도 한 인증번호로 비교할 수 있는 횟수는 maxAttempts 를 넘지 않습니다.
+ * 최대 횟수를 넘으면 인증번호를 폐기해 새 메일을 받도록 합니다.
+ */
+@Component
+public class AuthCodeVerifier {
+
+    public static final long AUTH_CODE_TTL_SECONDS = 10 * 60L;
+    private static final String ATTEMPTS_KEY_PREFIX = "authCodeAttempts:";
+
+    public enum Result {
+        MATCHED,
+        MISMATCHED,
+        // 인증번호가 없거나 만료됨 (이미 소모된 경우 포함)
+        EXPIRED,
+        // 시도 횟수를 넘겨 인증번호를 폐기함
+        LOCKED
+    }
+
+    // KEYS[1]=인증번호, KEYS[2]=시도 횟수
+    // ARGV[1]=제시된 인증번호, ARGV[2]=최대 시도 횟수, ARGV[3]=TTL(초), ARGV[4]=일치 시 소모 여부('1'/'0')
+    private static final RedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>("""
+            local stored = redis.call('GET', KEYS[1])
+            if not stored then
+              return 0
+            end
+            local attempts = redis.call('INCR', KEYS[2])
+            if attempts == 1 then
+              redis.call('EXPIRE', KEYS[2], ARGV[3])
+            end
+            if attempts > tonumber(ARGV[2]) then
+              redis.call('DEL', KEYS[1], KEYS[2])
+              return -1
+            end
+            if stored == ARGV[1] then
+              if ARGV[4] == '1' then
+                redis.call('DEL', KEYS[1], KEYS[2])
+              end
+              return 1
+            end
+            return 2
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int maxAttempts;
+
+    public AuthCodeVerifier(StringRedisTemplate redisTemplate,
+                            @Value("${cbu.mail.auth-code.max-attempts:5}") int maxAttempts) {
+        this.redisTemplate = redisTemplate;
+        this.maxAttempts = maxAttempts;
+    }
+
+    // 새 인증번호 저장(SETEX)과 이전 인증번호의 시도 횟수 초기화(DEL)를 파이프라인 한 번으로 보냅니다.
+    public void issue(String email, String authCode) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.setEx(email, AUTH_CODE_TTL_SECONDS, authCode);
+            stringConnection.del(attemptsKey(email));
+            return null;
+        });
+    }
+
+    /**
+     * 인증번호를 확인만 하고 소모하지 않습니다. (가입 전 메일 인증 단계)
+     */
+    public Result verify(String email, String authCode) {
+        return run(email, authCode, false);
+    }
+
+    /**
+     * 일치하면 같은 스크립트 안에서 인증번호를 지웁니다. 동시에 들어온 두 요청 중 하나만 MATCHED 를 받습니다.
+     */
+    public Result consume(String email, String authCode) {
+        return run(email, authCode, true);
+    }
+
+    private Result run(String email, String authCode, boolean consumeOnMatch) {
+        Long result = redisTemplate.execute(VERIFY_SCRIPT,
+                List.of(email, attemptsKey(email)),
+                authCode, String.valueOf(maxAttempts), String.valueOf(AUTH_CODE_TTL_SECONDS),
+                consumeOnMatch ? "1" : "0");
+        if (result == null) {
+            return Result.EXPIRED;
+        }
+        return switch (result.intValue()) {
+            case 1 -> Result.MATCHED;
+            case 2 -> Result.MISMATCHED;
+            case -1 -> Result.LOCKED;
+            default -> Result.EXPIRED;
+        };
+    }
+
+    private static String attemptsKey(String email) {
+        return ATTEMPTS_KEY_PREFIX + email;
+    }
+}
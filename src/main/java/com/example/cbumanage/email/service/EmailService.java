@@ -1,9 +1,9 @@
 package com.example.cbumanage.email.service;
 
+import com.example.cbumanage.application.entity.enums.MailNotiType;
 import com.example.cbumanage.email.dto.EmailAuthResponseDTO;
 import com.example.cbumanage.global.setting.dto.OnboardingLinksResponse;
 import com.example.cbumanage.global.setting.service.SystemSettingService;
-import com.example.cbumanage.global.util.RedisUtil;
 import com.example.cbumanage.member.dto.MemberMailUpdateDTO;
 import com.example.cbumanage.user.entity.User;
 import com.example.cbumanage.user.repository.UserRepository;
@@ -11,11 +11,15 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
 import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 
 @Service
@@ -32,15 +36,11 @@ public class EmailService {
     private String discordUrl;
 
     private final JavaMailSender mailSender;
-    private final RedisUtil redisUtil;
+    private final AuthCodeVerifier authCodeVerifier;
     private final UserRepository userRepository;
     private final SystemSettingService systemSettingService;
 
     public EmailAuthResponseDTO sendEmail(String toEmail) {
-        if (redisUtil.existData(toEmail)) {
-            redisUtil.deleteData(toEmail);
-        }
-
         try {
             MimeMessage emailForm = createEmailForm(toEmail);
             mailSender.send(emailForm);
@@ -59,7 +59,7 @@ public class EmailService {
         message.setSubject("인증코드입니다.");
         message.setText(setContext(authCode), "utf-8", "html");
 
-        redisUtil.setDataExpire(email, authCode, 10 * 60L);
+        authCodeVerifier.issue(email, authCode);
 
         return message;
     }
@@ -68,62 +68,77 @@ public class EmailService {
         return "<h4>인증 코드를 입력하세요.</h4>" + "<h2>[" + authCode + "]</h2>";
     }
 
-    public EmailAuthResponseDTO sendApplicationResultEmail(String toEmail, String applicantName, boolean accepted) {
-        OnboardingLinksResponse links = systemSettingService.getOnboardingLinks();
-        String subject = accepted ? "CBU 신규 부원 합격 안내" : "CBU 신규 부원 선발 결과 안내";
-        String content = accepted
-                ? """
-                <h3>%s님, CBU 신규 부원 합격을 축하드립니다.</h3>
-                <p>아래 링크에서 회원가입을 진행한 뒤 회비를 납부해 주세요.</p>
-                <p><a href="%s">%s</a></p>
-                <p>회비 확인 후 홈페이지 사용 권한이 활성화됩니다.</p>
-                """.formatted(applicantName, links.frontendUrl(), links.frontendUrl())
-                : """
-                <h3>%s님, CBU 신규 부원 선발 결과를 안내드립니다.</h3>
-                <p>아쉽게도 이번 모집에서는 함께하지 못하게 되었습니다.</p>
-                """.formatted(applicantName);
-        return sendHtmlEmail(toEmail, subject, content);
-    }
-
-    public EmailAuthResponseDTO sendOnboardingEmail(String toEmail, String name) {
+    /**
+     * 아웃박스 메일 종류에 맞는 HTML 메일을 만든다. 발송은 sendBatch 로 모아서 한다.
+     */
+    public MimeMessage createNotificationMessage(MailNotiType type, String toEmail, String name)
+            throws MessagingException {
         OnboardingLinksResponse links = systemSettingService.getOnboardingLinks();
-        String content = """
-                <h3>%s님, CBU 홈페이지 사용 권한이 활성화되었습니다.</h3>
-                <p>아래 링크를 통해 공지방 및 디스코드에 참여해 주세요.</p>
-                <ul>
-                    <li>오픈채팅: <a href="%s">%s</a></li>
-                    <li>디스코드: <a href="%s">%s</a></li>
-                </ul>
-                <p>홈페이지: <a href="%s">%s</a></p>
-                """.formatted(name, links.openChatUrl(), links.openChatUrl(),
-                links.discordUrl(), links.discordUrl(), links.frontendUrl(), links.frontendUrl());
-        return sendHtmlEmail(toEmail, "CBU 가입 승인 및 커뮤니티 링크 안내", content);
+        return switch (type) {
+            case ACCEPTED -> createHtmlMessage(toEmail, "CBU 신규 부원 합격 안내", """
+                    <h3>%s님, CBU 신규 부원 합격을 축하드립니다.</h3>
+                    <p>아래 링크에서 회원가입을 진행한 뒤 회비를 납부해 주세요.</p>
+                    <p><a href="%s">%s</a></p>
+                    <p>회비 확인 후 홈페이지 사용 권한이 활성화됩니다.</p>
+                    """.formatted(name, links.frontendUrl(), links.frontendUrl()));
+            case REJECTED -> createHtmlMessage(toEmail, "CBU 신규 부원 선발 결과 안내", """
+                    <h3>%s님, CBU 신규 부원 선발 결과를 안내드립니다.</h3>
+                    <p>아쉽게도 이번 모집에서는 함께하지 못하게 되었습니다.</p>
+                    """.formatted(name));
+            case ONBOARDING -> createHtmlMessage(toEmail, "CBU 가입 승인 및 커뮤니티 링크 안내", """
+                    <h3>%s님, CBU 홈페이지 사용 권한이 활성화되었습니다.</h3>
+                    <p>아래 링크를 통해 공지방 및 디스코드에 참여해 주세요.</p>
+                    <ul>
+                        <li>오픈채팅: <a href="%s">%s</a></li>
+                        <li>디스코드: <a href="%s">%s</a></li>
+                    </ul>
+                    <p>홈페이지: <a href="%s">%s</a></p>
+                    """.formatted(name, links.openChatUrl(), links.openChatUrl(),
+                    links.discordUrl(), links.discordUrl(), links.frontendUrl(), links.frontendUrl()));
+        };
     }
 
-    private EmailAuthResponseDTO sendHtmlEmail(String toEmail, String subject, String htmlContent) {
+    /**
+     * 여러 메일을 하나의 SMTP 연결로 발송한다.
+     * 실패한 메시지와 오류 메시지를 반환하며, 모두 성공하면 빈 맵이다.
+     */
+    public Map<MimeMessage, String> sendBatch(List<MimeMessage> messages) {
+        Map<MimeMessage, String> failures = new IdentityHashMap<>();
+        if (messages.isEmpty()) {
+            return failures;
+        }
         try {
-            MimeMessage message = mailSender.createMimeMessage();
-            message.setFrom(senderEmail);
-            message.setRecipients(MimeMessage.RecipientType.TO, toEmail);
-            message.setSubject(subject);
-            message.setText(htmlContent, "utf-8", "html");
-            mailSender.send(message);
-            return new EmailAuthResponseDTO(true, "메일이 전송되었습니다.");
-        } catch (MessagingException | MailSendException e) {
-            return new EmailAuthResponseDTO(false, e.getMessage());
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                messages.forEach(message -> failures.put(message, e.getMessage()));
+            } else {
+                e.getFailedMessages().forEach((message, cause) ->
+                        failures.put((MimeMessage) message, cause.getMessage()));
+            }
+        } catch (MailException e) {
+            messages.forEach(message -> failures.put(message, e.getMessage()));
         }
+        return failures;
     }
 
-    public EmailAuthResponseDTO validateAuthCode(String email, String authCode) {
-        String findAuthCode = redisUtil.getData(email);
-        if (findAuthCode == null) {
-            return new EmailAuthResponseDTO(false, "인증번호가 만료되었습니다. 다시 시도해주세요.");
-        }
+    private MimeMessage createHtmlMessage(String toEmail, String subject, String htmlContent)
+            throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        message.setFrom(senderEmail);
+        message.setRecipients(MimeMessage.RecipientType.TO, toEmail);
+        message.setSubject(subject);
+        message.setText(htmlContent, "utf-8", "html");
+        return message;
+    }
 
-        if (findAuthCode.equals(authCode)) {
-            return new EmailAuthResponseDTO(true, "인증에 성공했습니다.");
-        }
-        return new EmailAuthResponseDTO(false, "인증번호가 일치하지 않습니다.");
+    public EmailAuthResponseDTO validateAuthCode(String email, String authCode) {
+        return switch (authCodeVerifier.verify(email, authCode)) {
+            case MATCHED -> new EmailAuthResponseDTO(true, "인증에 성공했습니다.");
+            case MISMATCHED -> new EmailAuthResponseDTO(false, "인증번호가 일치하지 않습니다.");
+            case EXPIRED -> new EmailAuthResponseDTO(false, "인증번호가 만료되었습니다. 다시 시도해주세요.");
+            case LOCKED -> new EmailAuthResponseDTO(false, "인증 시도 횟수를 초과했습니다. 인증번호를 다시 받아주세요.");
+        };
     }
 
     @Transactional
@@ -0,0 +1,114 @@
+package com.example.cbumanage.email.service;
+
+import com.example.cbumanage.email.entity.MailOutbox;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 메일 아웃박스를 주기적으로 비워 실제 SMTP 발송을 수행합니다.
+ * 점유한 메일을 chunkSize 단위로 나눠 고정 크기 풀에서 발송하며, 한 chunk 는 하나의 SMTP 연결을 재사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MailOutboxDispatcher {
+
+    @Value("${cbu.mail.outbox.threads:2}")
+    private int dispatchThreads;
+    @Value("${cbu.mail.outbox.batch-size:50}")
+    private int batchSize;
+    @Value("${cbu.mail.outbox.chunk-size:10}")
+    private int chunkSize;
+
+    private final MailOutboxService mailOutboxService;
+    private final EmailService emailService;
+
+    private ExecutorService dispatchExecutor;
+
+    @PostConstruct
+    void init() {
+        dispatchExecutor = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "mail-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdownDispatchExecutor() {
+        dispatchExecutor.shutdownNow();
+    }
+
+    /**
+     * 이전 실행이 끝난 뒤 일정 간격으로 실행되므로 한 인스턴스 안에서 같은 메일을 겹쳐 점유하지 않습니다.
+     * 발송 도중 중단되면 결과가 반영되지 않은 메일은 lease 만료 후 다시 발송됩니다.
+     */
+    @Scheduled(fixedDelayString = "${cbu.mail.outbox.poll-interval-ms:2000}")
+    public void dispatchDue() {
+        List<MailOutbox> claimed = mailOutboxService.claimDue(batchSize);
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        List<List<MailOutbox>> chunks = new ArrayList<>();
+        for (int from = 0; from < claimed.size(); from += chunkSize) {
+            chunks.add(claimed.subList(from, Math.min(from + chunkSize, claimed.size())));
+        }
+        List<Callable<Map<Long, String>>> tasks = chunks.stream()
+                .<Callable<Map<Long, String>>>map(chunk -> () -> sendChunk(chunk))
+                .toList();
+
+        Map<Long, String> failures = new HashMap<>();
+        try {
+            List<Future<Map<Long, String>>> futures = dispatchExecutor.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    failures.putAll(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    String error = e.getCause().getMessage();
+                    chunks.get(i).forEach(mail -> failures.put(mail.getId(), error));
+                }
+            }
+        } catch (InterruptedException e) {
+            // 결과를 반영하지 못한 메일은 lease 만료 후 다시 발송 대상이 된다.
+            Thread.currentThread().interrupt();
+            return;
+        }
+        mailOutboxService.recordResults(claimed.stream().map(MailOutbox::getId).toList(), failures);
+    }
+
+    private Map<Long, String> sendChunk(List<MailOutbox> chunk) {
+        Map<Long, String> failures = new HashMap<>();
+        Map<MimeMessage, Long> outboxIdByMessage = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>();
+        for (MailOutbox mail : chunk) {
+            try {
+                MimeMessage message = emailService.createNotificationMessage(
+                        mail.getTemplateType(), mail.getRecipientEmail(), mail.getRecipientName());
+                messages.add(message);
+                outboxIdByMessage.put(message, mail.getId());
+            } catch (MessagingException | RuntimeException e) {
+                failures.put(mail.getId(), e.getMessage());
+            }
+        }
+        emailService.sendBatch(messages)
+                .forEach((message, error) -> failures.put(outboxIdByMessage.get(message), error));
+        return failures;
+    }
+}
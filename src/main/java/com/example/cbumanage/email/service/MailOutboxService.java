@@ -0,0 +1,216 @@
+package com.example.cbumanage.email.service;
+
+import com.example.cbumanage.application.entity.ApplicationNotification;
+import com.example.cbumanage.application.entity.MemberApplication;
+import com.example.cbumanage.application.entity.enums.MailNotiType;
+import com.example.cbumanage.application.entity.enums.NotificationStatus;
+import com.example.cbumanage.application.repository.ApplicationNotificationRepository;
+import com.example.cbumanage.application.repository.MemberApplicationRepository;
+import com.example.cbumanage.email.entity.MailOutbox;
+import com.example.cbumanage.email.entity.enums.MailOutboxStatus;
+import com.example.cbumanage.email.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메일 아웃박스 적재와 발송 결과 반영을 담당한다.
+ * enqueue 는 호출한 비즈니스 트랜잭션에 참여하므로, 롤백되면 메일도 발송되지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private static final String UNKNOWN_ERROR = "메일 발송 결과를 확인할 수 없습니다.";
+
+    private static final String INSERT_NOTIFICATION_SQL = """
+            INSERT INTO application_notification
+                (notification_uuid, member_application_id, email, template_type, status, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_OUTBOX_SQL = """
+            INSERT INTO mail_outbox
+                (notification_id, template_type, recipient_email, recipient_name, status, attempt_count,
+                 next_attempt_at, created_at)
+            VALUES (?, ?, ?, ?, ?, 0, ?, ?)
+            """;
+
+    @Value("${cbu.mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+    @Value("${cbu.mail.outbox.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+    @Value("${cbu.mail.outbox.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+    @Value("${cbu.mail.outbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final ApplicationNotificationRepository applicationNotificationRepository;
+    private final MemberApplicationRepository memberApplicationRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public record ApplicationMail(Long applicationId, MailNotiType type, String email, String name) {
+    }
+
+    /**
+     * 메일 발송을 예약한다. 신청서와 연결된 메일이면 PENDING 상태의 발송 이력도 함께 남긴다.
+     */
+    @Transactional
+    public void enqueue(Long applicationId, MailNotiType type, String email, String name) {
+        Long notificationId = null;
+        if (applicationId != null) {
+            notificationId = applicationNotificationRepository
+                    .save(ApplicationNotification.pending(applicationId, email, type))
+                    .getId();
+        }
+        mailOutboxRepository.save(MailOutbox.pending(notificationId, type, email, name));
+    }
+
+    /**
+     * 신청서 메일 여러 건을 한 번에 예약한다. enqueue 와 같은 행을 만들지만,
+     * 발송 이력과 아웃박스를 각각 JDBC batch INSERT 한 번으로 적재한다.
+     */
+    @Transactional
+    public void enqueueAll(List<ApplicationMail> mails) {
+        if (mails.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_NOTIFICATION_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ApplicationMail mail = mails.get(i);
+                        ps.setString(1, UUID.randomUUID().toString());
+                        ps.setLong(2, mail.applicationId());
+                        ps.setString(3, mail.email());
+                        ps.setString(4, mail.type().name());
+                        ps.setString(5, NotificationStatus.PENDING.name());
+                        ps.setTimestamp(6, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return mails.size();
+                    }
+                },
+                keyHolder);
+        List<Long> notificationIds = keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+        if (notificationIds.size() != mails.size()) {
+            throw new IllegalStateException("발송 이력 ID를 모두 받지 못했습니다.");
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ApplicationMail mail = mails.get(i);
+                ps.setLong(1, notificationIds.get(i));
+                ps.setString(2, mail.type().name());
+                ps.setString(3, mail.email());
+                ps.setString(4, mail.name());
+                ps.setString(5, MailOutboxStatus.PENDING.name());
+                ps.setTimestamp(6, now);
+                ps.setTimestamp(7, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return mails.size();
+            }
+        });
+    }
+
+    /**
+     * 발송할 메일을 최대 limit 건 점유한다.
+     * 점유한 행은 lease 동안 PROCESSING 이며, 결과가 반영되지 않은 채 lease 가 지나면 다시 발송 대상이 된다.
+     */
+    @Transactional
+    public List<MailOutbox> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> due = mailOutboxRepository.lockDueForDispatch(now, limit);
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        due.forEach(mail -> mail.markProcessing(leaseUntil));
+        return due;
+    }
+
+    /**
+     * 발송 결과를 아웃박스와 신청서 알림 이력에 반영한다.
+     * failures 에 없는 메일은 성공으로 보고, 실패한 메일은 지수 백오프로 재시도하거나 최대 횟수 초과 시 FAILED 로 둔다.
+     */
+    @Transactional
+    public void recordResults(Collection<Long> outboxIds, Map<Long, String> failures) {
+        List<MailOutbox> mails = mailOutboxRepository.findAllById(outboxIds);
+        Map<Long, ApplicationNotification> notificationById = applicationNotificationRepository
+                .findAllById(mails.stream()
+                        .map(MailOutbox::getNotificationId)
+                        .filter(Objects::nonNull)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(ApplicationNotification::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> notifiedApplicationIds = new ArrayList<>();
+        for (MailOutbox mail : mails) {
+            ApplicationNotification notification = notificationById.get(mail.getNotificationId());
+            if (!failures.containsKey(mail.getId())) {
+                mail.markSent();
+                if (notification != null) {
+                    notification.markSent();
+                    if (mail.getTemplateType() != MailNotiType.ONBOARDING) {
+                        notifiedApplicationIds.add(notification.getMemberApplicationId());
+                    }
+                }
+                continue;
+            }
+
+            String error = Objects.requireNonNullElse(failures.get(mail.getId()), UNKNOWN_ERROR);
+            if (mail.getAttemptCount() + 1 >= maxAttempts) {
+                mail.markFailed(error);
+                if (notification != null) {
+                    notification.markFailed(error);
+                }
+            } else {
+                mail.markRetry(error, now.plus(backoff(mail.getAttemptCount())));
+                if (notification != null) {
+                    notification.recordRetry(error);
+                }
+            }
+        }
+
+        if (!notifiedApplicationIds.isEmpty()) {
+            memberApplicationRepository.findAllById(notifiedApplicationIds)
+                    .forEach(MemberApplication::markNotified);
+        }
+    }
+
+    // 30초, 1분, 2분 ... 처럼 시도 횟수마다 두 배로 늘리되 상한을 둔다.
+    private Duration backoff(int previousAttempts) {
+        long seconds = backoffBaseSeconds << Math.min(previousAttempts, 20);
+        return Duration.ofSeconds(Math.min(seconds, backoffMaxSeconds));
+    }
+}
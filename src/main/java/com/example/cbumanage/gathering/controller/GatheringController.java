@@ -7,6 +7,10 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,8 +18,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/gatherings")
@@ -23,6 +26,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GatheringController {
 
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final GatheringService gatheringService;
 
     @PostMapping
@@ -51,22 +56,28 @@ public class GatheringController {
     @GetMapping
     @Operation(
             summary = "모임 일정 목록 조회",
-            description = "전체 모임 목록을 모임 일시 내림차순으로 반환합니다.\n\n" +
+            description = "모임 목록을 모임 일시 내림차순으로 페이지 단위(Slice) 반환합니다.\n\n" +
+                    "- `page`: 페이지 번호(0부터 시작), `size`: 페이지 크기 (기본 20, 최대 50)\n" +
                     "- `myStatus`: 내가 해당 모임에 투표한 상태. 미투표 시 null\n" +
                     "- `voteClosed`: 투표 마감 여부 (voteDeadline이 지났으면 true)\n" +
                     "- `viewCount`: 조회수\n" +
                     "- `summary.total`: 전체 대상 인원 수\n" +
                     "- `summary.unanswered`: 아직 투표하지 않은 인원 수 (NOT_RESPONDED 상태)"
     )
-    public ApiResponse<List<GatheringDTO.GatheringResponse>> getGatherings(Authentication authentication) {
+    public ApiResponse<Slice<GatheringDTO.GatheringResponse>> getGatherings(
+            @Parameter(description = "페이지 번호(0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
         Long memberId = Long.parseLong(authentication.getName());
-        return ApiResponse.success(gatheringService.getGatherings(memberId));
+        Pageable pageable = PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, MAX_PAGE_SIZE)),
+                Sort.by(Sort.Order.desc("gatheringDate"), Sort.Order.desc("id")));
+        return ApiResponse.success(gatheringService.getGatherings(memberId, pageable));
     }
 
     @GetMapping("/{gatheringId}")
     @Operation(
             summary = "모임 일정 상세 조회",
-            description = "특정 모임의 상세 정보를 반환합니다. 조회할 때마다 `viewCount`가 1 증가합니다.\n\n" +
+            description = "특정 모임의 상세 정보를 반환합니다. 조회할 때마다 `viewCount`가 1 증가하며, 증가분은 수 초 간격으로 모아서 반영됩니다.\n\n" +
                     "- `myStatus`: 내 투표 상태. 미투표 시 null\n" +
                     "- `summary.total`: 전체 대상 인원 수\n" +
                     "- `summary.unanswered`: 아직 투표하지 않은 인원 수 (NOT_RESPONDED 상태)"
@@ -185,13 +196,13 @@ public class GatheringController {
                     "- 정렬: 참석 → 불참 → 미응답 순\n" +
                     "- 미응답자의 투표일시는 `--` 로 표시됩니다.\n\n"
     )
-    public ResponseEntity<byte[]> exportAttendanceToExcel(
+    public ResponseEntity<StreamingResponseBody> exportAttendanceToExcel(
             @Parameter(description = "조회할 모임 ID", example = "1") @PathVariable Long gatheringId) {
-        byte[] excelBytes = gatheringService.exportAttendanceToExcel(gatheringId);
+        StreamingResponseBody excelBody = gatheringService.exportAttendanceToExcel(gatheringId);
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION,
                         "attachment; filename=\"attendance_" + gatheringId + ".xlsx\"")
                 .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(excelBytes);
+                .body(excelBody);
     }
 }
@@ -133,4 +133,15 @@ public class GatheringDTO {
             @Schema(description = "불참 멤버 목록") List<AdminMemberInfo> notAttendingMembers,
             @Schema(description = "미응답 멤버 목록 (allMembersTarget=true일 때만 존재)") List<AdminMemberInfo> unansweredMembers
     ) {}
+
+    // 엑셀 내보내기용 프로젝션 - 참석/회원 엔티티를 로딩하지 않고 필요한 컬럼만 조회
+    public record AttendanceExportRow(
+            String name,
+            Long generation,
+            Long studentNumber,
+            String major,
+            String grade,
+            AttendanceStatus status,
+            LocalDateTime votedAt
+    ) {}
 }
@@ -12,7 +12,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "gathering")
+@Table(name = "gathering",
+        indexes = @Index(name = "idx_gathering_deleted_date", columnList = "is_deleted, gathering_date, id"))
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -61,10 +62,6 @@ public class Gathering {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
     public boolean isVoteClosed() {
         return voteDeadline != null && LocalDateTime.now().isAfter(voteDeadline);
     }
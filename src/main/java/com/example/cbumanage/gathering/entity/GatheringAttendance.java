@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "gathering_attendance",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"gathering_id", "user_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"gathering_id", "user_id"}),
+        indexes = @Index(name = "idx_gathering_attendance_status", columnList = "gathering_id, status"))
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -41,7 +42,7 @@ public class GatheringAttendance {
     // 사용자가 명시적으로 투표한 시각. 자동 초기화(NOT_RESPONDED)된 레코드는 null
     private LocalDateTime votedAt;
 
-    // 자동 초기화용 (allMembersTarget=true 시 NOT_RESPONDED로 일괄 생성)
+    // 기본 생성용 (allMembersTarget=true 자동 초기화는 repository 의 INSERT ... SELECT 로 일괄 처리)
     public static GatheringAttendance create(Gathering gathering, User member, AttendanceStatus status) {
         GatheringAttendance attendance = new GatheringAttendance();
         attendance.gathering = gathering;
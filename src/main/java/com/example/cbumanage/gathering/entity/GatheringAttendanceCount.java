@@ -0,0 +1,32 @@
+package com.example.cbumanage.gathering.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 모임별 응답 상태 인원 수 (비정규화 카운터)
+ * 투표 트랜잭션 안에서 증감하며, GatheringAttendanceCountReconciler 가 주기적으로 실제 참석 데이터와 맞춥니다.
+ * 행 생성/증감은 GatheringAttendanceCountRepository 의 쿼리로만 수행합니다.
+ */
+@Entity
+@Table(name = "gathering_attendance_count")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GatheringAttendanceCount {
+
+    @Id
+    @Column(name = "gathering_id")
+    private Long gatheringId;
+
+    @Column(nullable = false)
+    private long attending;
+
+    @Column(nullable = false)
+    private long notAttending;
+
+    // NOT_RESPONDED 인원 수
+    @Column(nullable = false)
+    private long unanswered;
+}
@@ -0,0 +1,51 @@
+package com.example.cbumanage.gathering.repository;
+
+import com.example.cbumanage.gathering.entity.GatheringAttendanceCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface GatheringAttendanceCountRepository extends JpaRepository<GatheringAttendanceCount, Long> {
+
+    // 모임 생성 시 카운터 행 생성 (전체 대상이면 초기화된 인원이 모두 미응답)
+    @Modifying
+    @Query(value = """
+            INSERT INTO gathering_attendance_count (gathering_id, attending, not_attending, unanswered)
+            VALUES (:gatheringId, 0, 0, :unanswered)
+            """, nativeQuery = true)
+    void initialize(@Param("gatheringId") Long gatheringId, @Param("unanswered") long unanswered);
+
+    // 투표로 바뀐 인원 수를 원자적으로 반영 (행 잠금으로 동시 투표 간 덮어쓰기 없음)
+    @Modifying
+    @Query("UPDATE GatheringAttendanceCount c SET " +
+            "c.attending = c.attending + :attending, " +
+            "c.notAttending = c.notAttending + :notAttending, " +
+            "c.unanswered = c.unanswered + :unanswered " +
+            "WHERE c.gatheringId = :gatheringId")
+    int addCounts(@Param("gatheringId") Long gatheringId,
+                  @Param("attending") long attending,
+                  @Param("notAttending") long notAttending,
+                  @Param("unanswered") long unanswered);
+
+    // 삭제되지 않은 모든 모임의 카운터를 참석 데이터 기준으로 다시 계산 (없는 행은 생성)
+    @Modifying
+    @Query(value = """
+            INSERT INTO gathering_attendance_count (gathering_id, attending, not_attending, unanswered)
+            SELECT * FROM (
+                SELECT g.id AS gathering_id,
+                       COALESCE(SUM(a.status = 'ATTENDING'), 0) AS attending,
+                       COALESCE(SUM(a.status = 'NOT_ATTENDING'), 0) AS not_attending,
+                       COALESCE(SUM(a.status = 'NOT_RESPONDED'), 0) AS unanswered
+                FROM gathering g
+                LEFT JOIN gathering_attendance a ON a.gathering_id = g.id
+                WHERE g.is_deleted = false
+                GROUP BY g.id
+            ) AS actual
+            ON DUPLICATE KEY UPDATE
+                attending = actual.attending,
+                not_attending = actual.not_attending,
+                unanswered = actual.unanswered
+            """, nativeQuery = true)
+    int reconcileAll();
+}
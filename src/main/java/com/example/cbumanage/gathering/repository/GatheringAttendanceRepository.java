@@ -1,8 +1,9 @@
 package com.example.cbumanage.gathering.repository;
 
-import com.example.cbumanage.gathering.entity.enums.AttendanceStatus;
+import com.example.cbumanage.gathering.dto.GatheringDTO;
 import com.example.cbumanage.gathering.entity.GatheringAttendance;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -19,9 +20,38 @@ public interface GatheringAttendanceRepository extends JpaRepository<GatheringAt
     @Query("SELECT a FROM GatheringAttendance a JOIN FETCH a.member WHERE a.gathering.id = :gatheringId")
     List<GatheringAttendance> findAllByGatheringId(@Param("gatheringId") Long gatheringId);
 
-    // 여러 모임의 참석 데이터 일괄 조회 - getGatherings() N+1 방지
-    @Query("SELECT a FROM GatheringAttendance a JOIN FETCH a.member WHERE a.gathering.id IN :gatheringIds")
-    List<GatheringAttendance> findAllByGatheringIdIn(@Param("gatheringIds") List<Long> gatheringIds);
-
-    long countByGatheringIdAndStatus(Long gatheringId, AttendanceStatus status);
+    // 엑셀 내보내기용 명단 - 참석 → 불참 → 미응답 순
+    @Query("""
+            SELECT new com.example.cbumanage.gathering.dto.GatheringDTO$AttendanceExportRow(
+                m.name, m.generation, m.studentNumber, m.major, m.grade, a.status, a.votedAt)
+            FROM GatheringAttendance a
+            JOIN a.member m
+            WHERE a.gathering.id = :gatheringId
+            ORDER BY CASE a.status
+                WHEN com.example.cbumanage.gathering.entity.enums.AttendanceStatus.ATTENDING THEN 0
+                WHEN com.example.cbumanage.gathering.entity.enums.AttendanceStatus.NOT_ATTENDING THEN 1
+                ELSE 2 END, a.id
+            """)
+    List<GatheringDTO.AttendanceExportRow> findExportRowsByGatheringId(@Param("gatheringId") Long gatheringId);
+
+    // 여러 모임의 상태별 인원 수 일괄 집계 [gatheringId, status, count] - 참석 엔티티를 로딩하지 않음
+    @Query("SELECT a.gathering.id, a.status, COUNT(a) FROM GatheringAttendance a " +
+            "WHERE a.gathering.id IN :gatheringIds GROUP BY a.gathering.id, a.status")
+    List<Object[]> countByGatheringIdsGroupByStatus(@Param("gatheringIds") List<Long> gatheringIds);
+
+    // 여러 모임에 대한 본인 응답 상태 일괄 조회 [gatheringId, status]
+    @Query("SELECT a.gathering.id, a.status FROM GatheringAttendance a " +
+            "WHERE a.gathering.id IN :gatheringIds AND a.member.userId = :memberId")
+    List<Object[]> findStatusesByGatheringIdsAndMemberId(@Param("gatheringIds") List<Long> gatheringIds,
+                                                         @Param("memberId") Long memberId);
+
+    // 전체 대상 모임 생성 시 활성 회원 전원을 NOT_RESPONDED로 초기화 - User 로딩 없이 INSERT ... SELECT 한 문장으로 처리
+    @Modifying
+    @Query(value = """
+            INSERT INTO gathering_attendance (gathering_id, user_id, status, updated_at)
+            SELECT :gatheringId, u.user_id, 'NOT_RESPONDED', NOW(6)
+            FROM `user` u
+            WHERE u.member_status = 'ACTIVE'
+            """, nativeQuery = true)
+    int initializeForActiveMembers(@Param("gatheringId") Long gatheringId);
 }
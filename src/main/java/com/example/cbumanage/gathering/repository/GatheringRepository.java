@@ -1,14 +1,16 @@
 package com.example.cbumanage.gathering.repository;
 
 import com.example.cbumanage.gathering.entity.Gathering;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.List;
 import java.util.Optional;
 
 public interface GatheringRepository extends JpaRepository<Gathering, Long> {
 
-    List<Gathering> findAllByIsDeletedFalseOrderByGatheringDateDesc();
+    // 목록 조회 - 정렬은 Pageable 로 전달 (모임 일시 내림차순)
+    Slice<Gathering> findByIsDeletedFalse(Pageable pageable);
 
     Optional<Gathering> findByIdAndIsDeletedFalse(Long id);
 }
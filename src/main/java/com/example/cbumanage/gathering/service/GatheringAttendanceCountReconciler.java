@@ -0,0 +1,24 @@
+package com.example.cbumanage.gathering.service;
+
+import com.example.cbumanage.gathering.repository.GatheringAttendanceCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 모임 응답 카운터(gathering_attendance_count)를 실제 참석 데이터와 주기적으로 맞춥니다.
+ * 동시 재투표 등으로 생긴 오차나 누락된 카운터 행을 복구합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GatheringAttendanceCountReconciler {
+
+    private final GatheringAttendanceCountRepository attendanceCountRepository;
+
+    @Scheduled(cron = "${cbu.gathering.attendance-count.reconcile-cron:0 30 4 * * *}")
+    @Transactional
+    public void reconcile() {
+        attendanceCountRepository.reconcileAll();
+    }
+}
@@ -5,26 +5,34 @@ import com.example.cbumanage.gathering.entity.enums.AttendanceStatus;
 import com.example.cbumanage.gathering.entity.enums.GatheringType;
 import com.example.cbumanage.gathering.entity.Gathering;
 import com.example.cbumanage.gathering.entity.GatheringAttendance;
+import com.example.cbumanage.gathering.entity.GatheringAttendanceCount;
+import com.example.cbumanage.gathering.repository.GatheringAttendanceCountRepository;
 import com.example.cbumanage.gathering.repository.GatheringAttendanceRepository;
 import com.example.cbumanage.gathering.repository.GatheringRepository;
 import com.example.cbumanage.gathering.util.GatheringMapper;
+import com.example.cbumanage.global.common.ViewCountBuffer;
 import com.example.cbumanage.global.error.BaseException;
 import com.example.cbumanage.global.error.ErrorCode;
-import com.example.cbumanage.user.entity.MemberStatus;
 import com.example.cbumanage.user.entity.User;
 import com.example.cbumanage.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.Comparator;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -32,10 +40,17 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class GatheringService {
 
+    // SXSSF 가 메모리에 유지하는 행 수 (초과분은 임시 파일로 내려감)
+    private static final int EXCEL_ROW_WINDOW = 100;
+    private static final String[] EXCEL_HEADERS = {"이름", "기수", "학번", "학과", "학년", "응답", "투표일시"};
+    private static final int[] EXCEL_COLUMN_WIDTHS = {12, 6, 12, 24, 6, 8, 28};
+
     private final GatheringRepository gatheringRepository;
     private final GatheringAttendanceRepository attendanceRepository;
+    private final GatheringAttendanceCountRepository attendanceCountRepository;
     private final UserRepository userRepository;
     private final GatheringMapper gatheringMapper;
+    private final ViewCountBuffer viewCountBuffer;
 
     /**
      * 모임을 등록합니다.
@@ -57,13 +72,8 @@ public class GatheringService {
         );
         gatheringRepository.save(gathering);
 
-        if (allMembersTarget) {
-            List<User> allMembers = userRepository.findAllByMemberStatus(MemberStatus.ACTIVE);
-            List<GatheringAttendance> attendances = allMembers.stream()
-                    .map(m -> GatheringAttendance.create(gathering, m, AttendanceStatus.NOT_RESPONDED))
-                    .toList();
-            attendanceRepository.saveAll(attendances);
-        }
+        int initialized = allMembersTarget ? attendanceRepository.initializeForActiveMembers(gathering.getId()) : 0;
+        attendanceCountRepository.initialize(gathering.getId(), initialized);
 
         return gatheringMapper.toCreateResponse(gathering, author);
     }
@@ -78,54 +88,51 @@ public class GatheringService {
     }
 
     /**
-     * 전체 모임 목록을 모임 일시 내림차순으로 조회합니다.
-     * 총 3번의 쿼리로 처리됩니다. (모임 목록, 작성자 일괄, 참석 데이터 일괄)
+     * 모임 목록을 모임 일시 내림차순으로 페이지 단위 조회합니다.
+     * 총 4번의 쿼리로 처리됩니다. (모임 슬라이스, 작성자 일괄, 응답 카운터 일괄, 본인 응답 상태)
+     * 참석 엔티티는 로딩하지 않으며, 카운터 행이 없는 모임만 GROUP BY 집계로 보충합니다.
      */
     @Transactional(readOnly = true)
-    public List<GatheringDTO.GatheringResponse> getGatherings(Long memberId) {
-        List<Gathering> gatherings = gatheringRepository.findAllByIsDeletedFalseOrderByGatheringDateDesc();
-        List<Long> gatheringIds = gatherings.stream().map(Gathering::getId).toList();
+    public Slice<GatheringDTO.GatheringResponse> getGatherings(Long memberId, Pageable pageable) {
+        Slice<Gathering> gatherings = gatheringRepository.findByIsDeletedFalse(pageable);
+        List<Long> gatheringIds = gatherings.getContent().stream().map(Gathering::getId).toList();
+        if (gatheringIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
 
-        Set<Long> authorIds = gatherings.stream().map(Gathering::getAuthorId).collect(Collectors.toSet());
+        Set<Long> authorIds = gatherings.getContent().stream().map(Gathering::getAuthorId).collect(Collectors.toSet());
         Map<Long, User> authorMap = userRepository.findAllById(authorIds).stream()
                 .collect(Collectors.toMap(User::getUserId, m -> m));
 
-        List<GatheringAttendance> allAttendances = attendanceRepository.findAllByGatheringIdIn(gatheringIds);
-
-        Map<Long, List<GatheringAttendance>> attendanceByGathering = allAttendances.stream()
-                .collect(Collectors.groupingBy(a -> a.getGathering().getId()));
-
-        Map<Long, AttendanceStatus> myStatusByGathering = allAttendances.stream()
-                .filter(a -> a.getMember().getUserId().equals(memberId))
-                .collect(Collectors.toMap(a -> a.getGathering().getId(), GatheringAttendance::getStatus));
-
-        return gatherings.stream()
-                .map(g -> {
-                    List<GatheringAttendance> gAttendances = attendanceByGathering.getOrDefault(g.getId(), List.of());
-                    return gatheringMapper.toGatheringResponse(
-                            g,
-                            authorMap.get(g.getAuthorId()),
-                            myStatusByGathering.get(g.getId()),
-                            buildSummaryFromList(gAttendances)
-                    );
-                })
-                .toList();
+        Map<Long, GatheringDTO.AttendanceSummary> summaryByGathering = loadSummaries(gatheringIds);
+
+        Map<Long, AttendanceStatus> myStatusByGathering = new HashMap<>();
+        for (Object[] row : attendanceRepository.findStatusesByGatheringIdsAndMemberId(gatheringIds, memberId)) {
+            myStatusByGathering.put((Long) row[0], (AttendanceStatus) row[1]);
+        }
+
+        return gatherings.map(g -> gatheringMapper.toGatheringResponse(
+                g,
+                authorMap.get(g.getAuthorId()),
+                myStatusByGathering.get(g.getId()),
+                summaryByGathering.get(g.getId())
+        ));
     }
 
     /**
      * 특정 모임의 상세 정보를 조회합니다.
-     * 조회 시 viewCount를 증가시킵니다.
+     * 조회수 증가분은 ViewCountBuffer 에 모았다가 주기적으로 반영합니다.
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public GatheringDTO.GatheringResponse getGathering(Long gatheringId, Long memberId) {
         Gathering gathering = findGathering(gatheringId);
-        gathering.incrementViewCount();
+        viewCountBuffer.increment(ViewCountBuffer.Target.GATHERING, gatheringId);
         User author = userRepository.findById(gathering.getAuthorId()).orElse(null);
         AttendanceStatus myStatus = attendanceRepository
                 .findByGatheringIdAndMemberUserId(gatheringId, memberId)
                 .map(GatheringAttendance::getStatus)
                 .orElse(null);
-        return gatheringMapper.toGatheringResponse(gathering, author, myStatus, buildSummaryByCount(gatheringId));
+        return gatheringMapper.toGatheringResponse(gathering, author, myStatus, loadSummary(gatheringId));
     }
 
     /**
@@ -144,7 +151,7 @@ public class GatheringService {
                 request.gatheringDate(), request.location(), request.voteDeadline(), memberId);
 
         User author = userRepository.findById(gathering.getAuthorId()).orElse(null);
-        return gatheringMapper.toGatheringResponse(gathering, author, null, buildSummaryByCount(gatheringId));
+        return gatheringMapper.toGatheringResponse(gathering, author, null, loadSummary(gatheringId));
     }
 
     /**
@@ -185,11 +192,28 @@ public class GatheringService {
         User member = userRepository.findById(memberId)
                 .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
 
-        attendanceRepository.findByGatheringIdAndMemberUserId(gatheringId, memberId)
-                .ifPresentOrElse(
-                        a -> a.updateStatus(status),
-                        () -> attendanceRepository.save(GatheringAttendance.createWithVote(gathering, member, status))
-                );
+        Optional<GatheringAttendance> existing = attendanceRepository.findByGatheringIdAndMemberUserId(gatheringId, memberId);
+        AttendanceStatus previous = existing.map(GatheringAttendance::getStatus).orElse(null);
+        existing.ifPresentOrElse(
+                a -> a.updateStatus(status),
+                () -> attendanceRepository.save(GatheringAttendance.createWithVote(gathering, member, status))
+        );
+        applyStatusChange(gatheringId, previous, status);
+    }
+
+    // 응답 카운터에 상태 변경분을 같은 트랜잭션에서 반영합니다. (previous가 null이면 신규 응답)
+    private void applyStatusChange(Long gatheringId, AttendanceStatus previous, AttendanceStatus current) {
+        if (previous == current) {
+            return;
+        }
+        attendanceCountRepository.addCounts(gatheringId,
+                countDelta(AttendanceStatus.ATTENDING, previous, current),
+                countDelta(AttendanceStatus.NOT_ATTENDING, previous, current),
+                countDelta(AttendanceStatus.NOT_RESPONDED, previous, current));
+    }
+
+    private long countDelta(AttendanceStatus target, AttendanceStatus previous, AttendanceStatus current) {
+        return (current == target ? 1 : 0) - (previous == target ? 1 : 0);
     }
 
     /**
@@ -215,13 +239,19 @@ public class GatheringService {
     /**
      * 참석 명단을 엑셀 파일로 내보냅니다.
      * 참석 → 불참 → 미응답 순으로 정렬됩니다.
+     * 명단은 프로젝션 쿼리로 미리 조회하고, 워크북은 SXSSF 로 일정 행 수만 메모리에 두며 응답 스트림에 바로 씁니다.
      */
     @Transactional(readOnly = true)
-    public byte[] exportAttendanceToExcel(Long gatheringId) {
-        Gathering gathering = findGathering(gatheringId);
-        List<GatheringAttendance> attendances = attendanceRepository.findAllByGatheringId(gatheringId);
+    public StreamingResponseBody exportAttendanceToExcel(Long gatheringId) {
+        findGathering(gatheringId);
+        List<GatheringDTO.AttendanceExportRow> rows = attendanceRepository.findExportRowsByGatheringId(gatheringId);
+        return out -> writeAttendanceExcel(rows, out);
+    }
 
-        try (Workbook workbook = new XSSFWorkbook()) {
+    private void writeAttendanceExcel(List<GatheringDTO.AttendanceExportRow> rows, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(EXCEL_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
             Sheet sheet = workbook.createSheet("참석 명단");
 
             CellStyle headerStyle = workbook.createCellStyle();
@@ -229,48 +259,35 @@ public class GatheringService {
             headerFont.setBold(true);
             headerStyle.setFont(headerFont);
 
-            String[] headers = {"이름", "기수", "학번", "학과", "학년", "응답", "투표일시"};
+            // autoSizeColumn 은 모든 셀을 다시 읽어야 하므로 열 너비를 고정합니다.
             Row headerRow = sheet.createRow(0);
-            for (int i = 0; i < headers.length; i++) {
+            for (int i = 0; i < EXCEL_HEADERS.length; i++) {
+                sheet.setColumnWidth(i, EXCEL_COLUMN_WIDTHS[i] * 256);
                 Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
+                cell.setCellValue(EXCEL_HEADERS[i]);
                 cell.setCellStyle(headerStyle);
             }
 
-            // 참석 → 불참 → 미응답 순 정렬
-            List<GatheringAttendance> sorted = attendances.stream()
-                    .sorted(Comparator.comparingInt(a -> statusOrder(a.getStatus())))
-                    .toList();
-
             int rowNum = 1;
-            for (GatheringAttendance a : sorted) {
-                rowNum = writeAttendanceRow(sheet, rowNum, a.getMember(),
-                        statusLabel(a.getStatus()), a.getVotedAt());
-            }
-
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
+            for (GatheringDTO.AttendanceExportRow attendance : rows) {
+                writeAttendanceRow(sheet.createRow(rowNum++), attendance);
             }
 
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
             workbook.write(out);
-            return out.toByteArray();
-        } catch (IOException e) {
-            throw new RuntimeException("엑셀 파일 생성 중 오류가 발생했습니다.", e);
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
     }
 
-    private int writeAttendanceRow(Sheet sheet, int rowNum, User member, String status,
-                                    java.time.LocalDateTime votedAt) {
-        Row row = sheet.createRow(rowNum);
-        row.createCell(0).setCellValue(nullSafe(member.getName()));
-        row.createCell(1).setCellValue(member.getGeneration() != null ? member.getGeneration() : 0L);
-        row.createCell(2).setCellValue(member.getStudentNumber() != null ? member.getStudentNumber() : 0L);
-        row.createCell(3).setCellValue(nullSafe(member.getMajor()));
-        row.createCell(4).setCellValue(nullSafe(member.getGrade()));
-        row.createCell(5).setCellValue(status);
-        row.createCell(6).setCellValue(votedAt != null ? votedAt.toString() : "--");
-        return rowNum + 1;
+    private void writeAttendanceRow(Row row, GatheringDTO.AttendanceExportRow attendance) {
+        row.createCell(0).setCellValue(nullSafe(attendance.name()));
+        row.createCell(1).setCellValue(attendance.generation() != null ? attendance.generation() : 0L);
+        row.createCell(2).setCellValue(attendance.studentNumber() != null ? attendance.studentNumber() : 0L);
+        row.createCell(3).setCellValue(nullSafe(attendance.major()));
+        row.createCell(4).setCellValue(nullSafe(attendance.grade()));
+        row.createCell(5).setCellValue(statusLabel(attendance.status()));
+        row.createCell(6).setCellValue(attendance.votedAt() != null ? attendance.votedAt().toString() : "--");
     }
 
     private String statusLabel(AttendanceStatus status) {
@@ -281,14 +298,6 @@ public class GatheringService {
         };
     }
 
-    private int statusOrder(AttendanceStatus status) {
-        return switch (status) {
-            case ATTENDING -> 0;
-            case NOT_ATTENDING -> 1;
-            case NOT_RESPONDED -> 2;
-        };
-    }
-
     private String nullSafe(String value) {
         return value != null ? value : "";
     }
@@ -301,24 +310,19 @@ public class GatheringService {
 
     // 로딩된 참석 리스트로 요약을 계산합니다. NOT_RESPONDED가 unanswered에 해당합니다.
     private GatheringDTO.AttendanceSummary buildSummaryFromList(List<GatheringAttendance> attendances) {
-        Map<AttendanceStatus, Long> counts = attendances.stream()
-                .collect(Collectors.groupingBy(GatheringAttendance::getStatus, Collectors.counting()));
-        long attending = counts.getOrDefault(AttendanceStatus.ATTENDING, 0L);
-        long notAttending = counts.getOrDefault(AttendanceStatus.NOT_ATTENDING, 0L);
-        long unanswered = counts.getOrDefault(AttendanceStatus.NOT_RESPONDED, 0L);
-        return GatheringDTO.AttendanceSummary.builder()
-                .attending(attending)
-                .notAttending(notAttending)
-                .unanswered(unanswered)
-                .total(attending + notAttending + unanswered)
-                .build();
+        return buildSummaryFromCounts(attendances.stream()
+                .collect(Collectors.groupingBy(GatheringAttendance::getStatus, Collectors.counting())));
     }
 
-    // COUNT 쿼리로 요약을 계산합니다. (단건 조회, 수정 시 사용)
-    private GatheringDTO.AttendanceSummary buildSummaryByCount(Long gatheringId) {
-        long attending = attendanceRepository.countByGatheringIdAndStatus(gatheringId, AttendanceStatus.ATTENDING);
-        long notAttending = attendanceRepository.countByGatheringIdAndStatus(gatheringId, AttendanceStatus.NOT_ATTENDING);
-        long unanswered = attendanceRepository.countByGatheringIdAndStatus(gatheringId, AttendanceStatus.NOT_RESPONDED);
+    // 상태별 인원 수로 요약을 계산합니다.
+    private GatheringDTO.AttendanceSummary buildSummaryFromCounts(Map<AttendanceStatus, Long> counts) {
+        return buildSummary(
+                counts.getOrDefault(AttendanceStatus.ATTENDING, 0L),
+                counts.getOrDefault(AttendanceStatus.NOT_ATTENDING, 0L),
+                counts.getOrDefault(AttendanceStatus.NOT_RESPONDED, 0L));
+    }
+
+    private GatheringDTO.AttendanceSummary buildSummary(long attending, long notAttending, long unanswered) {
         return GatheringDTO.AttendanceSummary.builder()
                 .attending(attending)
                 .notAttending(notAttending)
@@ -326,4 +330,29 @@ public class GatheringService {
                 .total(attending + notAttending + unanswered)
                 .build();
     }
+
+    // 응답 카운터 한 행으로 요약을 만듭니다. (단건 조회, 수정 시 사용)
+    private GatheringDTO.AttendanceSummary loadSummary(Long gatheringId) {
+        return loadSummaries(List.of(gatheringId)).get(gatheringId);
+    }
+
+    // 응답 카운터로 요약을 만들고, 카운터 행이 아직 없는 모임(reconcile 전)만 GROUP BY 집계로 계산합니다.
+    private Map<Long, GatheringDTO.AttendanceSummary> loadSummaries(List<Long> gatheringIds) {
+        Map<Long, GatheringDTO.AttendanceSummary> summaries = new HashMap<>();
+        for (GatheringAttendanceCount count : attendanceCountRepository.findAllById(gatheringIds)) {
+            summaries.put(count.getGatheringId(),
+                    buildSummary(count.getAttending(), count.getNotAttending(), count.getUnanswered()));
+        }
+
+        List<Long> missingIds = gatheringIds.stream().filter(id -> !summaries.containsKey(id)).toList();
+        if (!missingIds.isEmpty()) {
+            Map<Long, Map<AttendanceStatus, Long>> countsByGathering = new HashMap<>();
+            for (Object[] row : attendanceRepository.countByGatheringIdsGroupByStatus(missingIds)) {
+                countsByGathering.computeIfAbsent((Long) row[0], id -> new EnumMap<>(AttendanceStatus.class))
+                        .put((AttendanceStatus) row[1], (Long) row[2]);
+            }
+            missingIds.forEach(id -> summaries.put(id, buildSummaryFromCounts(countsByGathering.getOrDefault(id, Map.of()))));
+        }
+        return summaries;
+    }
 }
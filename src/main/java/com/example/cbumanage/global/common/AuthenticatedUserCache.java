@@ -0,0 +1,106 @@
+package com.example.cbumanage.global.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * JwtFilter 가 매 요청마다 수행하던 userUuid → userId 조회 결과를 보관하는 캐시입니다.
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거하고, TTL 이 지난 항목은 조회 시점에 버립니다.
+ * 탈퇴/로그아웃/비밀번호 변경 시 서비스에서 명시적으로 무효화하며, 다른 인스턴스의 변경은 TTL 안에 반영됩니다.
+ * 트랜잭션 안에서의 변경은 evictAfterCommit 으로 커밋 이후에 한 번 더 무효화합니다.
+ */
+@Component
+public class AuthenticatedUserCache {
+
+    private final long ttlMillis;
+    private final Map<UUID, CachedPrincipal> entries;
+    // 무효화 이전에 시작한 조회 결과가 무효화 뒤에 저장되지 않도록 세대를 비교한다
+    private long generation;
+
+    public AuthenticatedUserCache(@Value("${cbu.auth.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                                  @Value("${cbu.auth.principal-cache.max-size:10000}") int maxSize) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedPrincipal> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환하고, 없거나 만료되었으면 loader 로 조회해 채웁니다.
+     * 조회 결과가 없는 경우(탈퇴 회원 등)는 캐시하지 않습니다.
+     */
+    public Optional<Long> getUserId(UUID userUuid, Function<UUID, Optional<Long>> loader) {
+        long now = System.currentTimeMillis();
+        long loadGeneration;
+        synchronized (entries) {
+            CachedPrincipal cached = entries.get(userUuid);
+            if (cached != null) {
+                if (cached.expiresAt() > now) {
+                    return Optional.of(cached.userId());
+                }
+                entries.remove(userUuid);
+            }
+            loadGeneration = generation;
+        }
+
+        Optional<Long> loaded = loader.apply(userUuid);
+        loaded.ifPresent(userId -> {
+            synchronized (entries) {
+                if (loadGeneration == generation) {
+                    entries.put(userUuid, new CachedPrincipal(userId, now + ttlMillis));
+                }
+            }
+        });
+        return loaded;
+    }
+
+    public void evict(UUID userUuid) {
+        if (userUuid == null) {
+            return;
+        }
+        synchronized (entries) {
+            generation++;
+            entries.remove(userUuid);
+        }
+    }
+
+    /**
+     * 회원 상태를 바꾼 트랜잭션이 커밋된 뒤 항목을 지웁니다. 커밋 전에만 지우면 그 사이의 요청이 탈퇴 전 상태를 다시 채울 수 있습니다.
+     */
+    public void evictAfterCommit(UUID userUuid) {
+        evict(userUuid);
+        if (userUuid != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userUuid);
+                }
+            });
+        }
+    }
+
+    // 로그아웃처럼 userId 만 알고 있는 경우에 사용합니다. 드문 호출이므로 전체 순회로 충분합니다.
+    public void evictByUserId(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        synchronized (entries) {
+            generation++;
+            entries.values().removeIf(principal -> principal.userId().equals(userId));
+        }
+    }
+
+    private record CachedPrincipal(Long userId, long expiresAt) {
+    }
+}
@@ -22,6 +22,7 @@ import java.util.UUID;
 public class JwtFilter extends OncePerRequestFilter {
     private final JwtProvider jwtProvider;
     private final UserRepository userRepository;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, FilterChain filterChain) throws ServletException, IOException {
@@ -35,15 +36,16 @@ public class JwtFilter extends OncePerRequestFilter {
                 }
             }
         }
-        if (accessToken != null && jwtProvider.validateToken(accessToken)) {
-            Claims claims = jwtProvider.getClaims(accessToken);
+        Claims claims = accessToken != null ? jwtProvider.parseClaims(accessToken).orElse(null) : null;
+        if (claims != null) {
             String uuidStr = claims.getSubject();
             String role = claims.get("role", String.class);
             if (uuidStr != null && role != null) {
-                User user = userRepository.findByUserUuidAndDeletedAtIsNull(UUID.fromString(uuidStr)).orElse(null);
-                if (user != null) {
+                Long userId = authenticatedUserCache.getUserId(UUID.fromString(uuidStr),
+                        uuid -> userRepository.findByUserUuidAndDeletedAtIsNull(uuid).map(User::getUserId)).orElse(null);
+                if (userId != null) {
                     UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                            String.valueOf(user.getUserId()), null, List.of(new SimpleGrantedAuthority(role)));
+                            String.valueOf(userId), null, List.of(new SimpleGrantedAuthority(role)));
                     SecurityContextHolder.getContext().setAuthentication(auth);
                 }
             }
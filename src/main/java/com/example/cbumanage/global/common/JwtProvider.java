@@ -2,6 +2,7 @@ package com.example.cbumanage.global.common;
 
 import com.example.cbumanage.user.entity.Role;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -11,26 +12,45 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtProvider {
+	// refresh token 이 속한 로그인 세션(token family) id
+	public static final String SESSION_CLAIM = "sid";
+
 	@Value("${cbu.jwt.secret}")
 	private String secretKey;
 	@Value("${cbu.jwt.expireTime}")
 	private Long accessExpireTime;
 	@Value("${cbu.jwt.refreshExpireTime}")
 	private Long refreshExpireTime;
+	@Value("${cbu.jwt.verified-cache-size:1024}")
+	private int verifiedCacheSize;
 
 	private Key key;
+	// JwtParser 는 불변이며 스레드 안전하므로 한 번만 만들어 재사용합니다.
+	private JwtParser parser;
+	// 최근 검증에 성공한 토큰의 SHA-256 해시 → 클레임. 토큰 만료 시각까지만 유효합니다.
+	// 요청마다 거치는 경로라 전역 락 없이 ConcurrentHashMap 을 쓰고, 토큰 원문은 키로 들고 있지 않습니다.
+	private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
 
 	@PostConstruct
 	protected void init() {
 		this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+		this.parser = Jwts.parser()
+				.verifyWith((SecretKey) key)
+				.build();
 	}
 
-	public TokenInfo createToken(UUID userUuid, String userName, Role role) {
+	public TokenInfo createToken(UUID userUuid, String userName, Role role, String sessionId) {
 
 		Date now = new Date();
 		Date accessTokenValidity = new Date(now.getTime() + accessExpireTime);
@@ -43,8 +63,11 @@ public class JwtProvider {
 				.compact();
 
 		Date refreshTokenValidity = new Date(now.getTime() + refreshExpireTime);
+		// jti 를 붙여 같은 초에 재발급해도 토큰 값이 달라지게 합니다 (재사용 감지에 필요).
 		String refreshToken = Jwts.builder()
 				.subject(userUuid.toString())
+				.id(UUID.randomUUID().toString())
+				.claim(SESSION_CLAIM, sessionId)
 				.expiration(refreshTokenValidity)
 				.signWith(key)
 				.compact();
@@ -53,23 +76,60 @@ public class JwtProvider {
 	}
 
 	public boolean validateToken(String token) {
+		return parseClaims(token).isPresent();
+	}
+
+	// 서명/만료 검증과 클레임 추출을 한 번의 파싱으로 처리합니다. 유효하지 않으면 빈 값을 반환합니다.
+	// 최근에 검증한 토큰은 만료 전까지 서명 검증을 다시 하지 않습니다.
+	public Optional<Claims> parseClaims(String token) {
+		if (token == null) {
+			return Optional.empty();
+		}
+		long now = System.currentTimeMillis();
+		String tokenHash = hash(token);
+		VerifiedToken verified = verifiedTokens.get(tokenHash);
+		if (verified != null) {
+			if (verified.expiresAt() > now) {
+				return Optional.of(verified.claims());
+			}
+			verifiedTokens.remove(tokenHash, verified);
+		}
+
+		Claims claims;
 		try {
-			Jwts.parser()
-					.verifyWith((SecretKey) key)
-					.build()
-					.parseSignedClaims(token);
-			return true;
+			claims = getClaims(token);
 		} catch (Exception e) {
-			return false;
+			return Optional.empty();
+		}
+		Date expiration = claims.getExpiration();
+		if (expiration != null) {
+			if (verifiedTokens.size() >= verifiedCacheSize) {
+				evictVerifiedTokens(now);
+			}
+			verifiedTokens.put(tokenHash, new VerifiedToken(claims, expiration.getTime()));
+		}
+		return Optional.of(claims);
+	}
+
+	// 만료된 항목을 먼저 지우고, 그래도 가득 차 있으면 전부 비웁니다. 비운 뒤에는 다음 요청부터 다시 검증하며 채워집니다.
+	private void evictVerifiedTokens(long now) {
+		verifiedTokens.values().removeIf(verified -> verified.expiresAt() <= now);
+		if (verifiedTokens.size() >= verifiedCacheSize) {
+			verifiedTokens.clear();
+		}
+	}
+
+	private static String hash(String token) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
 		}
 	}
 
 	public Claims getClaims(String token) {
-		return Jwts.parser()
-				.verifyWith((SecretKey) key)
-				.build()
-				.parseSignedClaims(token)
-				.getPayload();
+		return parser.parseSignedClaims(token).getPayload();
 	}
 
 	public Claims getClaimsIgnoreExpiration(String token) {
@@ -79,4 +139,7 @@ public class JwtProvider {
 			return e.getClaims();
 		}
 	}
+
+	private record VerifiedToken(Claims claims, long expiresAt) {
+	}
 }
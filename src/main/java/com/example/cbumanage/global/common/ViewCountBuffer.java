@@ -0,0 +1,90 @@
+package com.example.cbumanage.global.common;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상세 조회마다 실행하던 조회수 UPDATE 를 메모리에 모았다가 주기적으로 한 번에 반영하는 버퍼입니다.
+ * 조회 요청은 id 별 LongAdder 만 증가시키므로 쓰기 트랜잭션이나 행 잠금 없이 끝나고,
+ * 누적분은 flush 주기마다 대상 테이블별로 하나의 JDBC batch UPDATE 로 반영됩니다.
+ * 화면의 조회수는 최대 flush 주기만큼 늦게 반영되며, 종료 시 남은 누적분을 반영합니다.
+ */
+@Component
+public class ViewCountBuffer {
+
+    public enum Target {
+        POST("UPDATE post SET view_count = view_count + ? WHERE post_id = ?"),
+        GATHERING("UPDATE gathering SET view_count = view_count + ? WHERE id = ?");
+
+        private final String updateSql;
+
+        Target(String updateSql) {
+            this.updateSql = updateSql;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    // 한 번 조회된 id 의 LongAdder 는 지우지 않고 재사용한다. 지우면 그 순간 증가시키던 조회가 유실될 수 있다.
+    private final Map<Target, Map<Long, LongAdder>> pending = new EnumMap<>(Target.class);
+
+    public ViewCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (Target target : Target.values()) {
+            pending.put(target, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void increment(Target target, Long id) {
+        pending.get(target).computeIfAbsent(id, key -> new LongAdder()).increment();
+    }
+
+    @Scheduled(fixedDelayString = "${cbu.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        for (Target target : Target.values()) {
+            flush(target);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void flush(Target target) {
+        Map<Long, LongAdder> counters = pending.get(target);
+        // id 순서로 갱신해 여러 인스턴스가 동시에 반영해도 잠금 순서가 엇갈리지 않게 한다
+        Map<Long, Long> deltas = new TreeMap<>();
+        counters.forEach((id, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(id, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> batch.add(new Object[]{delta, id}));
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(target.updateSql, batch));
+        } catch (RuntimeException e) {
+            // 롤백되었거나(DB 오류) 트랜잭션을 시작하지 못했으므로(커넥션 획득 실패 등) 누적분을 되돌려 다음 주기에 다시 반영한다
+            deltas.forEach((id, delta) -> counters.computeIfAbsent(id, key -> new LongAdder()).add(delta));
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package com.example.cbumanage.global.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.api.StatefulConnection;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
 
 @Getter
 @Configuration
@@ -20,17 +29,67 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    // 직접 만든 ConnectionFactory 는 스프링 부트 자동 설정을 거치지 않으므로 같은 프로퍼티 이름을 여기서 읽는다
+    @Value("${spring.data.redis.timeout:2s}")
+    private Duration commandTimeout;
+
+    @Value("${spring.data.redis.connect-timeout:1s}")
+    private Duration connectTimeout;
+
+    // Lettuce 는 기본적으로 연결 하나를 공유한다. MULTI 나 블로킹 명령을 많이 쓸 때만 풀을 켠다.
+    @Value("${spring.data.redis.lettuce.pool.enabled:false}")
+    private boolean poolEnabled;
+
+    @Value("${spring.data.redis.lettuce.pool.max-active:8}")
+    private int poolMaxActive;
+
+    @Value("${spring.data.redis.lettuce.pool.max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.min-idle:0}")
+    private int poolMinIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.max-wait:1s}")
+    private Duration poolMaxWait;
+
     // 내장 / 외부 Redis 연결
     @Bean
     public RedisConnectionFactory redisConnectionFactory(){
-        return new LettuceConnectionFactory(host, port);
+        ClientOptions clientOptions = ClientOptions.builder()
+                .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).build())
+                .build();
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = poolEnabled
+                ? LettucePoolingClientConfiguration.builder().poolConfig(poolConfig())
+                : LettuceClientConfiguration.builder();
+        LettuceClientConfiguration clientConfiguration = builder
+                .commandTimeout(commandTimeout)
+                .clientOptions(clientOptions)
+                .build();
+
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port), clientConfiguration);
+    }
+
+    // RedisUtil 등은 StringRedisTemplate 을 주입받으므로 같은 ConnectionFactory 로 직접 등록한다
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory){
+        return new StringRedisTemplate(redisConnectionFactory);
     }
+
+    // 인스턴스 간 변경 알림(pub/sub) 구독용
     @Bean
-    public RedisTemplate<String, String> redisTemplate(){
-        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
-        redisTemplate.setConnectionFactory(redisConnectionFactory());
-        redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new StringRedisSerializer());
-        return redisTemplate;
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory){
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    private GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig() {
+        GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(poolMaxActive);
+        poolConfig.setMaxIdle(poolMaxIdle);
+        poolConfig.setMinIdle(poolMinIdle);
+        poolConfig.setMaxWait(poolMaxWait);
+        return poolConfig;
     }
 }
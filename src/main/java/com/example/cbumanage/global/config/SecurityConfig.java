@@ -1,5 +1,6 @@
 package com.example.cbumanage.global.config;
 
+import com.example.cbumanage.global.common.AuthenticatedUserCache;
 import com.example.cbumanage.global.common.JwtFilter;
 import com.example.cbumanage.global.common.JwtProvider;
 import com.example.cbumanage.user.repository.UserRepository;
@@ -29,6 +30,7 @@ import java.util.List;
 public class SecurityConfig {
     private final JwtProvider jwtProvider;
     private final UserRepository userRepository;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -57,7 +59,7 @@ public class SecurityConfig {
                         ).permitAll()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JwtFilter(jwtProvider, userRepository), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtFilter(jwtProvider, userRepository, authenticatedUserCache), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -4,11 +4,27 @@ import com.example.cbumanage.global.setting.dto.OnboardingLinksRequest;
 import com.example.cbumanage.global.setting.dto.OnboardingLinksResponse;
 import com.example.cbumanage.global.setting.entity.SystemSetting;
 import com.example.cbumanage.global.setting.repository.SystemSettingRepository;
+import com.example.cbumanage.global.util.RedisUtil;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 시스템 설정을 메모리 스냅샷으로 제공합니다.
+ * 기동 시 전체 설정을 읽어 불변 Map 으로 들고 있으며, 조회는 volatile 참조 하나만 읽으므로 잠금이 없습니다.
+ * 수정이 커밋되면 스냅샷을 다시 읽어 통째로 교체하고 Redis pub/sub 으로 다른 인스턴스에도 다시 읽도록 알립니다.
+ * 알림을 놓친 경우에 대비해 주기적으로도 다시 읽습니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class SystemSettingService {
@@ -17,6 +33,8 @@ public class SystemSettingService {
     public static final String OPEN_CHAT_URL = "cbu.onboarding.open-chat-url";
     public static final String DISCORD_URL = "cbu.onboarding.discord-url";
 
+    static final String CHANGE_CHANNEL = "system-setting:changed";
+
     @Value("${cbu.frontend.url:https://cbu-manage.com}")
     private String defaultFrontendUrl;
     @Value("${cbu.onboarding.open-chat-url:}")
@@ -25,8 +43,18 @@ public class SystemSettingService {
     private String defaultDiscordUrl;
 
     private final SystemSettingRepository systemSettingRepository;
+    private final RedisUtil redisUtil;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 값이 비어 있지 않은 설정만 담습니다. 교체만 하고 수정하지 않습니다.
+    private volatile Map<String, String> settings = Map.of();
+
+    @PostConstruct
+    void init() {
+        reload();
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> reload(), new ChannelTopic(CHANGE_CHANNEL));
+    }
 
-    @Transactional(readOnly = true)
     public OnboardingLinksResponse getOnboardingLinks() {
         return new OnboardingLinksResponse(
                 getValue(FRONTEND_URL, defaultFrontendUrl),
@@ -40,15 +68,46 @@ public class SystemSettingService {
         upsert(FRONTEND_URL, request.frontendUrl());
         upsert(OPEN_CHAT_URL, request.openChatUrl());
         upsert(DISCORD_URL, request.discordUrl());
-        return getOnboardingLinks();
+        reloadAndNotifyAfterCommit();
+        return new OnboardingLinksResponse(
+                valueOrDefault(request.frontendUrl(), defaultFrontendUrl),
+                valueOrDefault(request.openChatUrl(), defaultOpenChatUrl),
+                valueOrDefault(request.discordUrl(), defaultDiscordUrl)
+        );
     }
 
-    @Transactional(readOnly = true)
     public String getValue(String key, String defaultValue) {
-        return systemSettingRepository.findById(key)
-                .map(SystemSetting::getValue)
-                .filter(value -> value != null && !value.isBlank())
-                .orElse(defaultValue);
+        return settings.getOrDefault(key, defaultValue);
+    }
+
+    @Scheduled(fixedDelayString = "${cbu.settings.refresh-interval-ms:300000}",
+            initialDelayString = "${cbu.settings.refresh-interval-ms:300000}")
+    public void reload() {
+        Map<String, String> loaded = new HashMap<>();
+        for (SystemSetting setting : systemSettingRepository.findAll()) {
+            if (setting.getValue() != null && !setting.getValue().isBlank()) {
+                loaded.put(setting.getKey(), setting.getValue());
+            }
+        }
+        settings = Map.copyOf(loaded);
+    }
+
+    private void reloadAndNotifyAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+                try {
+                    redisUtil.publish(CHANGE_CHANNEL, "reload");
+                } catch (RuntimeException e) {
+                    // best-effort: 다른 인스턴스는 주기적 재조회로 따라옵니다
+                }
+            }
+        });
+    }
+
+    private static String valueOrDefault(String value, String defaultValue) {
+        return value != null && !value.isBlank() ? value : defaultValue;
     }
 
     private void upsert(String key, String value) {
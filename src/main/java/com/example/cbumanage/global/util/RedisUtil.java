@@ -1,11 +1,16 @@
 package com.example.cbumanage.global.util;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -18,6 +23,14 @@ public class RedisUtil {
         return valueOperations.get(key);
     }
 
+    // MGET 한 번으로 조회합니다. 결과는 keys 순서를 따르며 없는 키는 null 입니다.
+    public List<String> getMultiData(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        return redisTemplate.opsForValue().multiGet(keys);
+    }
+
     public boolean existData(String key) {
         return Boolean.TRUE.equals(redisTemplate.hasKey(key));
     }
@@ -28,8 +41,37 @@ public class RedisUtil {
         valueOperations.set(key, value, expireDuration);
     }
 
+    // 여러 SETEX 를 파이프라인으로 묶어 한 번의 왕복으로 보냅니다. 원자적이지는 않습니다.
+    public void setMultiDataExpire(Map<String, String> values, long duration) {
+        if (values.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            values.forEach((key, value) -> stringConnection.setEx(key, duration, value));
+            return null;
+        });
+    }
+
     public void deleteData(String key) {
         redisTemplate.delete(key);
     }
 
-}
\ No newline at end of file
+    // 여러 키를 DEL 한 번으로 지웁니다.
+    public void deleteMultiData(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(keys);
+    }
+
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    // GETDEL 로 조회와 삭제를 원자적으로 처리합니다. 일회용 값을 한 번만 쓰게 할 때 사용합니다.
+    public String getAndDeleteData(String key) {
+        return redisTemplate.opsForValue().getAndDelete(key);
+    }
+
+}
@@ -219,4 +219,14 @@ public class GroupController {
         groupService.updateGroupStatusAdmin(groupId, userId, req);
         return ApiResponse.success();
     }
+
+    @Operation(
+            summary = "그룹 멤버십 캐시 통계 조회",
+            description = "권한 확인에 쓰이는 (그룹, 회원) 멤버십 캐시의 누적 적중/미스 수와 적중률, 현재 항목 수를 조회합니다."
+    )
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_PRESIDENT', 'ROLE_VICE_PRESIDENT')")
+    @GetMapping("/admin/membership-cache/stats")
+    public ApiResponse<GroupDTO.MembershipCacheStatsDTO> getMembershipCacheStats() {
+        return ApiResponse.success(groupService.getMembershipCacheStats());
+    }
 }
@@ -195,4 +195,16 @@ public class GroupDTO {
         @Schema(description = "가입 거절 사유(ACCEPT 시 NULL)")
         String memberRejectReason
     ){}
+
+    @Schema(description = "그룹 멤버십 캐시 통계입니다. 애플리케이션 시작 이후 누적값입니다.")
+    public record MembershipCacheStatsDTO(
+            @Schema(description = "캐시에서 응답한 조회 수")
+            long hits,
+            @Schema(description = "DB 를 조회한 수")
+            long misses,
+            @Schema(description = "hits / (hits + misses)")
+            double hitRate,
+            @Schema(description = "현재 캐시 항목 수")
+            int size
+    ) {}
 }
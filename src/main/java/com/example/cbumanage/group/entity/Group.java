@@ -1,6 +1,7 @@
 package com.example.cbumanage.group.entity;
 
 import com.example.cbumanage.global.error.BaseException;
+import com.example.cbumanage.group.entity.enums.GroupMemberStatus;
 import com.example.cbumanage.group.entity.enums.GroupRecruitmentStatus;
 import com.example.cbumanage.group.entity.enums.GroupStatus;
 import jakarta.persistence.*;
@@ -72,6 +73,12 @@ public class Group {
     @Comment("그룹 삭제 여부(Soft Delete")
     private Boolean isDeleted = false;
 
+    // 잠금 없이 그룹을 수정하는 다른 트랜잭션이 오래된 값을 덮어쓰지 않도록 dirty checking 대상에서 뺍니다.
+    // DB 값은 GroupRepository.adjustActiveMemberCount 의 원자적 UPDATE 로만 바뀝니다.
+    @Column(nullable = false, updatable = false)
+    @Comment("ACTIVE 상태 멤버 수 (멤버 상태가 바뀔 때 같은 트랜잭션에서 갱신)")
+    private int activeMemberCount = 0;
+
     //그룹의 생성자, 상태들은 기본적으로 모집 안함, 승인 대기중 상태로 시작
     public Group(String groupName, int minActiveMembers, Integer maxActiveMembers, Long postId, int category)  {
         if (maxActiveMembers < 2) {
@@ -105,6 +112,20 @@ public class Group {
 
     public void addMember(GroupMember member) {
        this.members.add(member);
+       if (member.getGroupMemberStatus() == GroupMemberStatus.ACTIVE) {
+           increaseActiveMemberCount();
+       }
+    }
+
+    /*
+    ACTIVE 멤버 수를 갱신하는 메소드 입니다. GroupMember 의 상태 변경 메소드에서만 호출합니다
+     */
+    void increaseActiveMemberCount() {
+        this.activeMemberCount++;
+    }
+
+    void decreaseActiveMemberCount() {
+        this.activeMemberCount = Math.max(0, this.activeMemberCount - 1);
     }
 
     /*
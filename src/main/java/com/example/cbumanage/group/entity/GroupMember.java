@@ -73,16 +73,30 @@ public class GroupMember {
     }
 
 
+    /*
+    멤버 상태를 바꾸는 메소드 입니다. ACTIVE 에 들어오거나 나갈 때 그룹의 activeMemberCount 를 함께 갱신합니다
+     */
     public void active(){
-        this.groupMemberStatus = GroupMemberStatus.ACTIVE;
+        changeStatus(GroupMemberStatus.ACTIVE);
         this.memberRejectReason = null;
     }
     public void reject(String reason) {
-        this.groupMemberStatus = GroupMemberStatus.REJECTED;
+        changeStatus(GroupMemberStatus.REJECTED);
         this.memberRejectReason = reason;
     }
     public void pending(){
-        this.groupMemberStatus = GroupMemberStatus.PENDING;
+        changeStatus(GroupMemberStatus.PENDING);
+    }
+
+    private void changeStatus(GroupMemberStatus targetStatus) {
+        boolean wasActive = this.groupMemberStatus == GroupMemberStatus.ACTIVE;
+        boolean isActive = targetStatus == GroupMemberStatus.ACTIVE;
+        this.groupMemberStatus = targetStatus;
+        if (!wasActive && isActive) {
+            group.increaseActiveMemberCount();
+        } else if (wasActive && !isActive) {
+            group.decreaseActiveMemberCount();
+        }
     }
 
     public void changeRole(GroupMemberRole groupMemberRole) {
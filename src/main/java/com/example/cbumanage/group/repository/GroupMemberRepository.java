@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface GroupMemberRepository extends JpaRepository<GroupMember, Long> {
@@ -39,6 +40,10 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
 """)
     boolean existsActiveMember(Long userId, Long groupId, GroupMemberStatus status);
 
+    //엔티티를 영속성 컨텍스트에 올리지 않고 그룹 id 만 조회합니다 (그룹 잠금 전에 멤버 상태를 읽지 않기 위함)
+    @Query("SELECT gm.group.id FROM GroupMember gm WHERE gm.id = :groupMemberId")
+    Optional<Long> findGroupIdById(Long groupMemberId);
+
     @Query("SELECT gm.group.id FROM GroupMember gm WHERE gm.user.userId = :userId AND gm.groupMemberStatus = :status AND gm.group.isDeleted = false")
     List<Long> findGroupIdsByUserIdAndStatus(Long userId, GroupMemberStatus status);
 }
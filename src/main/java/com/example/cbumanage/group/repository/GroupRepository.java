@@ -6,7 +6,10 @@ import com.example.cbumanage.group.entity.enums.GroupRecruitmentStatus;
 import com.example.cbumanage.group.entity.enums.GroupStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -41,14 +44,15 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
                                   Pageable pageable);
 
 
-    //특정 Status인 멤버만 카운트하는 메소드입니다
-    @Query("""
-    select count(m)
-    from GroupMember m
-    where m.group.id = :groupId
-    and m.groupMemberStatus = :groupMemberStatus
-""")
-    int countByGroupIdAndStatus(long groupId, GroupMemberStatus groupMemberStatus);
+    //멤버 상태 변경과 activeMemberCount 갱신이 같은 그룹에서 동시에 일어나지 않도록 그룹 행을 잠그고 조회합니다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select g from Group g where g.id = :groupId")
+    Optional<Group> findByIdForUpdate(@Param("groupId") Long groupId);
+
+    //activeMemberCount 는 엔티티 값을 덮어쓰지 않고 DB 에서 증감분만 더합니다 (Group.activeMemberCount 는 updatable=false)
+    @Modifying
+    @Query("update Group g set g.activeMemberCount = g.activeMemberCount + :delta where g.id = :groupId")
+    int adjustActiveMemberCount(@Param("groupId") Long groupId, @Param("delta") int delta);
 
     /*
     그룹 멤버의 id와 현재  통해 현재 멤버가 가입되어 있는 그룹의 리스트를 뽑아냅니다
@@ -0,0 +1,178 @@
+package com.example.cbumanage.group.service;
+
+import com.example.cbumanage.group.dto.GroupDTO;
+import com.example.cbumanage.group.entity.GroupMember;
+import com.example.cbumanage.group.entity.enums.GroupMemberRole;
+import com.example.cbumanage.group.entity.enums.GroupMemberStatus;
+import com.example.cbumanage.group.repository.GroupMemberRepository;
+import com.example.cbumanage.global.util.RedisUtil;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (groupId, userId) 별 그룹 멤버십(상태, 역할)을 보관하는 캐시입니다.
+ * 스터디·프로젝트·보고서 화면의 권한 확인이 같은 쌍을 반복 조회하므로, 멤버가 아닌 경우도 함께 캐시합니다.
+ * 멤버십 상태는 GroupService 에서만 바뀌며, 바뀔 때마다 커밋 이후 해당 항목을 무효화하고
+ * Redis pub/sub 으로 다른 인스턴스에도 같은 항목을 지우도록 알립니다.
+ * 알림을 놓친 인스턴스가 권한을 오래 잘못 주지 않도록 ACTIVE 항목은 더 짧은 TTL 로 보관합니다.
+ */
+@Component
+public class GroupMembershipCache {
+
+    static final String EVICT_CHANNEL = "group-membership:evicted";
+
+    private final GroupMemberRepository groupMemberRepository;
+    private final RedisUtil redisUtil;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final long ttlMillis;
+    private final long activeTtlMillis;
+    private final Map<MembershipKey, CachedMembership> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    // 무효화 이전에 시작한 조회 결과가 무효화 뒤에 저장되지 않도록 세대를 비교한다
+    private long generation;
+
+    public GroupMembershipCache(GroupMemberRepository groupMemberRepository,
+                                RedisUtil redisUtil,
+                                RedisMessageListenerContainer redisMessageListenerContainer,
+                                @Value("${cbu.group.membership-cache.ttl-seconds:300}") long ttlSeconds,
+                                @Value("${cbu.group.membership-cache.active-ttl-seconds:30}") long activeTtlSeconds,
+                                @Value("${cbu.group.membership-cache.max-size:10000}") int maxSize) {
+        this.groupMemberRepository = groupMemberRepository;
+        this.redisUtil = redisUtil;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.activeTtlMillis = Math.min(activeTtlSeconds, ttlSeconds) * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<MembershipKey, CachedMembership> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @PostConstruct
+    void init() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> evictFromMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환하고, 없거나 만료되었으면 group_member 에서 조회해 채웁니다.
+     * 멤버가 아니면 status, role 이 모두 null 인 Membership 을 반환합니다.
+     */
+    public Membership get(Long groupId, Long userId) {
+        MembershipKey key = new MembershipKey(groupId, userId);
+        long now = System.currentTimeMillis();
+        long loadGeneration;
+        synchronized (entries) {
+            CachedMembership cached = entries.get(key);
+            if (cached != null) {
+                if (cached.expiresAt() > now) {
+                    hits.incrementAndGet();
+                    return cached.membership();
+                }
+                entries.remove(key);
+            }
+            loadGeneration = generation;
+        }
+
+        misses.incrementAndGet();
+        GroupMember member = groupMemberRepository.findByGroupIdAndUserUserId(groupId, userId);
+        Membership membership = member == null
+                ? Membership.NONE
+                : new Membership(member.getGroupMemberStatus(), member.getGroupMemberRole());
+        synchronized (entries) {
+            if (loadGeneration == generation) {
+                long ttl = membership.status() == GroupMemberStatus.ACTIVE ? activeTtlMillis : ttlMillis;
+                entries.put(key, new CachedMembership(membership, now + ttl));
+            }
+        }
+        return membership;
+    }
+
+    public boolean isActiveMember(Long groupId, Long userId) {
+        return get(groupId, userId).status() == GroupMemberStatus.ACTIVE;
+    }
+
+    /**
+     * 멤버십을 바꾼 트랜잭션이 커밋된 뒤 항목을 지우고 다른 인스턴스에 알립니다.
+     * 커밋 전에 지우면 그 사이의 조회가 이전 상태를 다시 채울 수 있습니다.
+     */
+    public void evictAfterCommit(Long groupId, Long userId) {
+        MembershipKey key = new MembershipKey(groupId, userId);
+        evict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(key);
+                    notifyEviction(key);
+                }
+            });
+        } else {
+            notifyEviction(key);
+        }
+    }
+
+    public GroupDTO.MembershipCacheStatsDTO stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new GroupDTO.MembershipCacheStatsDTO(hitCount, missCount, total == 0 ? 0 : (double) hitCount / total, size);
+    }
+
+    private void notifyEviction(MembershipKey key) {
+        try {
+            redisUtil.publish(EVICT_CHANNEL, key.groupId() + ":" + key.userId());
+        } catch (RuntimeException e) {
+            // best-effort: 알림을 놓친 인스턴스는 ACTIVE 항목의 짧은 TTL 안에 다시 조회합니다
+        }
+    }
+
+    // 다른 인스턴스(자기 자신 포함)가 보낸 "groupId:userId" 알림을 받아 해당 항목을 지웁니다
+    void evictFromMessage(String body) {
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        try {
+            evict(new MembershipKey(Long.valueOf(body.substring(0, separator)), Long.valueOf(body.substring(separator + 1))));
+        } catch (NumberFormatException e) {
+            // 형식이 맞지 않는 메시지는 무시합니다
+        }
+    }
+
+    private void evict(MembershipKey key) {
+        synchronized (entries) {
+            generation++;
+            entries.remove(key);
+        }
+    }
+
+    public record Membership(GroupMemberStatus status, GroupMemberRole role) {
+
+        public static final Membership NONE = new Membership(null, null);
+    }
+
+    private record MembershipKey(Long groupId, Long userId) {
+    }
+
+    private record CachedMembership(Membership membership, long expiresAt) {
+    }
+}
@@ -36,6 +36,7 @@ public class GroupService {
     private final ProjectRepository projectRepository;
     private final StudyRepository studyRepository;
     private final GroupUtil groupUtil;
+    private final GroupMembershipCache membershipCache;
 
     /**
      게시글 생성 시 자동 생성되는 그룹.
@@ -49,8 +50,11 @@ public class GroupService {
         User member = userRepository.findById(leaderId)
                 .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
         GroupMember leader = GroupMember.create(group, member, GroupMemberStatus.ACTIVE, GroupMemberRole.LEADER);
+        int activeBefore = group.getActiveMemberCount();
         group.addMember(leader);
         groupMemberRepository.save(leader);
+        applyActiveMemberCountChange(group, activeBefore);
+        membershipCache.evictAfterCommit(group.getId(), leaderId);
         group.openRecruitment();
         return group;
     }
@@ -74,6 +78,7 @@ public class GroupService {
         if (existing != null) {
             if (existing.getGroupMemberStatus() == GroupMemberStatus.REJECTED) {
                 existing.pending();
+                membershipCache.evictAfterCommit(groupId, memberId);
                 return groupUtil.toGroupMemberInfoDTO(existing);
             }
             throw new BaseException(ErrorCode.ALREADY_JOINED_MEMBER,"중복 신청이 불가합니다.");
@@ -83,6 +88,7 @@ public class GroupService {
         GroupMember groupMember = GroupMember.create(group,member,GroupMemberStatus.PENDING,GroupMemberRole.MEMBER);
         group.addMember(groupMember);
         groupMemberRepository.save(groupMember);
+        membershipCache.evictAfterCommit(groupId, memberId);
         return groupUtil.toGroupMemberInfoDTO(groupMember);
     }
 
@@ -125,14 +131,18 @@ public class GroupService {
      **/
     @Transactional
     public void updateStatusGroupMember(Long groupMemberId,Long userId,GroupMemberStatus targetStatus, String reason) {
+        Long groupId = groupMemberRepository.findGroupIdById(groupMemberId)
+                .orElseThrow(() -> new BaseException(ErrorCode.GROUP_MEMBER_NOT_FOUND));
+        Group group = groupRepository.findByIdForUpdate(groupId)
+                .orElseThrow(() -> new BaseException(ErrorCode.GROUP_NOT_FOUND));
+        // 그룹 행을 잠근 뒤에 멤버를 읽어야 동시에 들어온 승인/거절이 같은 이전 상태를 보고 카운트를 두 번 바꾸지 않는다
         GroupMember groupMember = groupMemberRepository.findById(groupMemberId)
                 .orElseThrow(() -> new BaseException(ErrorCode.GROUP_MEMBER_NOT_FOUND));
-        Group group = groupMember.getGroup();
         assertIsGroupLeader(group.getId(), userId);
+        int activeBefore = group.getActiveMemberCount();
         if (targetStatus == GroupMemberStatus.ACTIVE) {
             groupMember.active();
-            int activeCount = groupRepository.countByGroupIdAndStatus(group.getId(), GroupMemberStatus.ACTIVE);
-            if (activeCount >= group.getMaxActiveMembers()) {
+            if (group.getActiveMemberCount() >= group.getMaxActiveMembers()) {
                 group.closeRecruitment();
                 projectRepository.findByGroupId(group.getId()).ifPresent(project -> project.updateRecruiting(false));
                 studyRepository.findByGroupId(group.getId()).ifPresent(study -> study.updateRecruiting(false));
@@ -140,12 +150,21 @@ public class GroupService {
         }else{
             groupMember.reject(reason);
         }
+        applyActiveMemberCountChange(group, activeBefore);
+        membershipCache.evictAfterCommit(group.getId(), groupMember.getUser().getUserId());
+    }
+
+    //엔티티에서 바뀐 ACTIVE 멤버 수만큼을 원자적 UPDATE 로 DB 에 반영합니다 (activeMemberCount 는 dirty checking 으로 쓰지 않음)
+    private void applyActiveMemberCountChange(Group group, int activeBefore) {
+        int delta = group.getActiveMemberCount() - activeBefore;
+        if (delta != 0) {
+            groupRepository.adjustActiveMemberCount(group.getId(), delta);
+        }
     }
 
-    //시전한 user가 리더가 맞는지 확인하는 메소드
+    //시전한 user가 리더가 맞는지 확인하는 메소드 (멤버십 캐시 사용)
     private void assertIsGroupLeader(Long groupId, Long userId){
-        GroupMember groupMember = groupMemberRepository.findByGroupIdAndUserUserId(groupId, userId);
-        if(groupMember == null || groupMember.getGroupMemberRole() != GroupMemberRole.LEADER){
+        if(membershipCache.get(groupId, userId).role() != GroupMemberRole.LEADER){
             throw new BaseException(ErrorCode.NOT_GROUP_LEADER);
         }
     }
@@ -156,7 +175,10 @@ public class GroupService {
     public void rejectAllPendingMembers(Long groupId) {
         String reason="모집이 마감되어 자동으로 거절되었습니다.";
         List<GroupMember> pending = groupMemberRepository.findByGroupIdAndGroupMemberStatus(groupId, GroupMemberStatus.PENDING);
-        pending.forEach(member -> member.reject(reason));
+        pending.forEach(member -> {
+            member.reject(reason);
+            membershipCache.evictAfterCommit(groupId, member.getUser().getUserId());
+        });
     }
 
 
@@ -168,6 +190,7 @@ public class GroupService {
             throw new BaseException(ErrorCode.INVALID_REQUEST,"PENDING 상태가 아닙니다.");
         }
         groupMemberRepository.delete(gm);
+        membershipCache.evictAfterCommit(groupId, userId);
     }
 
     /* 팀장 전용: PENDING 신청인원 목록 조회 메서드(학년, 학부, 이름) */
@@ -194,9 +217,8 @@ public class GroupService {
     public Boolean hasAppliedToGroup(Long groupId, Long userId) {
         if (userId == null) return false; // 비로그인 = 신청 이력 없음
         if (groupId == null) return null;
-        GroupMember gm = groupMemberRepository.findByGroupIdAndUserUserId(groupId, userId);
-        if (gm == null) return false; // 미가입자
-        GroupMemberStatus status = gm.getGroupMemberStatus();
+        GroupMemberStatus status = membershipCache.get(groupId, userId).status();
+        if (status == null) return false; // 미가입자
         if (status == GroupMemberStatus.PENDING) return true;   // 신청 대기
         if (status == GroupMemberStatus.REJECTED) return false; // 거절 → 재신청 가능
         return null; // ACTIVE, INACTIVE → 가입 완료
@@ -222,9 +244,11 @@ public class GroupService {
     //최대 모집 인원을 변경합니다.
     @Transactional
     public void updateGroupMaxMember(Long groupId, int maxMember){
-        Group group =  groupRepository.findByIdAndIsDeletedFalse(groupId)
+        // 멤버 승인과 같은 그룹 행 잠금을 잡아야 확인한 참여 인원이 변경 시점까지 유지된다
+        Group group = groupRepository.findByIdForUpdate(groupId)
+                .filter(g -> !Boolean.TRUE.equals(g.getIsDeleted()))
                 .orElseThrow(()-> new BaseException(ErrorCode.GROUP_NOT_FOUND));
-        int activeCount = groupRepository.countByGroupIdAndStatus(group.getId(), GroupMemberStatus.ACTIVE);
+        int activeCount = group.getActiveMemberCount();
         if (activeCount >= maxMember) {
             throw new BaseException(ErrorCode.INVALID_REQUEST,
                     "현재 참여 인원(" + activeCount + "명)보다 적은 인원으로 수정할 수 없습니다.");
@@ -232,6 +256,11 @@ public class GroupService {
         group.changeMaxActiveMembers(maxMember);
     }
 
+    //멤버십 캐시의 누적 적중/미스 통계를 조회합니다. (관리자 전용)
+    public GroupDTO.MembershipCacheStatsDTO getMembershipCacheStats() {
+        return membershipCache.stats();
+    }
+
     //개설되어 있는 그룹 전체를 조회하는 기능입니다. (관리자 전용)
     @Transactional(readOnly = true)
     public Page<GroupDTO.GroupListDTO> getAllGroups(Long userId, GroupStatus groupStatus, Pageable pageable) {
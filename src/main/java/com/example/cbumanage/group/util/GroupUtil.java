@@ -4,7 +4,6 @@ import com.example.cbumanage.group.dto.GroupDTO;
 import com.example.cbumanage.group.entity.Group;
 import com.example.cbumanage.group.entity.GroupMember;
 import com.example.cbumanage.group.entity.enums.GroupMemberRole;
-import com.example.cbumanage.group.entity.enums.GroupMemberStatus;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -17,9 +16,7 @@ public class GroupUtil {
                 .category(group.getCategory())
                 .createdAt(group.getCreatedAt())
                 .updatedAt(group.getUpdatedAt())
-                .activeMemberCount((int) group.getMembers().stream()
-                        .filter(m -> m.getGroupMemberStatus() == GroupMemberStatus.ACTIVE)
-                        .count())
+                .activeMemberCount(group.getActiveMemberCount())
                 .maxMembers(group.getMaxActiveMembers())
                 .minMembers(group.getMinActiveMembers())
                 .members(group.getMembers().stream().map(m->toGroupMemberInfoDTO(m)).toList())
@@ -82,9 +79,7 @@ public class GroupUtil {
                 .groupStatus(group.getStatus())
                 .rejectReason(group.getRejectReason())
                 .groupRecruitmentStatus(group.getRecruitmentStatus())
-                .activeMemberCount((int) group.getMembers().stream()
-                        .filter(m -> m.getGroupMemberStatus() == GroupMemberStatus.ACTIVE)
-                        .count())
+                .activeMemberCount(group.getActiveMemberCount())
                 .maxMembers(group.getMaxActiveMembers() != null ? group.getMaxActiveMembers() : 0)
                 .leaderId(leader != null ? leader.getUser().getUserId() : null)
                 .leaderGeneration(leader != null ? leader.getUser().getGeneration() : null)
@@ -107,9 +102,7 @@ public class GroupUtil {
                 .createdAt(group.getCreatedAt())
                 .groupStatus(group.getStatus())
                 .groupRecruitmentStatus(group.getRecruitmentStatus())
-                .activeMemberCount((int) group.getMembers().stream()
-                        .filter(m -> m.getGroupMemberStatus() == GroupMemberStatus.ACTIVE)
-                        .count())
+                .activeMemberCount(group.getActiveMemberCount())
                 .maxMembers(group.getMaxActiveMembers() != null ? group.getMaxActiveMembers() : 0)
                 .leaderId(leader != null ? leader.getUser().getUserId() : null)
                 .leaderGeneration(leader != null ? leader.getUser().getGeneration() : null)
@@ -1,15 +1,14 @@
 package com.example.cbumanage.member.service;
 
 import com.example.cbumanage.dues.repository.DuesRepository;
-import com.example.cbumanage.application.entity.ApplicationNotification;
 import com.example.cbumanage.application.entity.enums.MailNotiType;
-import com.example.cbumanage.application.repository.ApplicationNotificationRepository;
-import com.example.cbumanage.email.dto.EmailAuthResponseDTO;
-import com.example.cbumanage.email.service.EmailService;
+import com.example.cbumanage.email.service.MailOutboxService;
+import com.example.cbumanage.global.common.AuthenticatedUserCache;
 import com.example.cbumanage.member.dto.MemberCreateDTO;
 import com.example.cbumanage.member.dto.MemberUpdateDTO;
 import com.example.cbumanage.member.exception.MemberNotExistsException;
 import com.example.cbumanage.member.util.MemberMapper;
+import com.example.cbumanage.report.repository.PostReportRepository;
 import com.example.cbumanage.user.entity.MemberStatus;
 import com.example.cbumanage.user.entity.User;
 import com.example.cbumanage.user.repository.UserRepository;
@@ -25,6 +24,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * 회원 CRUD 및 관련 기능을 제공하는 서비스 클래스입니다.
@@ -35,8 +35,9 @@ public class MemberManageService {
 	private final UserRepository userRepository;
 	private final DuesRepository duesRepository;
 	private final MemberMapper memberMapper;
-	private final EmailService emailService;
-	private final ApplicationNotificationRepository applicationNotificationRepository;
+	private final MailOutboxService mailOutboxService;
+	private final AuthenticatedUserCache authenticatedUserCache;
+	private final PostReportRepository postReportRepository;
 
 	@Value("${cbu.login.salt}")
 	private String salt;
@@ -48,13 +49,15 @@ public class MemberManageService {
 	public MemberManageService(UserRepository userRepository,
 								 DuesRepository duesRepository,
 								 MemberMapper memberMapper,
-								 EmailService emailService,
-								 ApplicationNotificationRepository applicationNotificationRepository) {
+								 MailOutboxService mailOutboxService,
+								 AuthenticatedUserCache authenticatedUserCache,
+								 PostReportRepository postReportRepository) {
 		this.userRepository = userRepository;
 		this.duesRepository = duesRepository;
 		this.memberMapper = memberMapper;
-		this.emailService = emailService;
-		this.applicationNotificationRepository = applicationNotificationRepository;
+		this.mailOutboxService = mailOutboxService;
+		this.authenticatedUserCache = authenticatedUserCache;
+		this.postReportRepository = postReportRepository;
 	}
 
 	@Transactional(readOnly = true)
@@ -79,7 +82,11 @@ public class MemberManageService {
 	public void updateUser(MemberUpdateDTO memberUpdateDTO) {
 		User user = userRepository.findByUserIdAndDeletedAtIsNull(memberUpdateDTO.getUserId())
 				.orElseThrow(MemberNotExistsException::new);
+		String previousName = user.getName();
 		memberMapper.map(memberUpdateDTO, user);
+		if (!Objects.equals(previousName, user.getName())) {
+			postReportRepository.refreshSearchTextByAuthorId(user.getUserId(), user.getName());
+		}
 	}
 
 	@Transactional
@@ -87,6 +94,7 @@ public class MemberManageService {
 		User user = userRepository.findByStudentNumberAndDeletedAtIsNull(studentNumber)
 				.orElseThrow(MemberNotExistsException::new);
 		user.delete();
+		authenticatedUserCache.evictAfterCommit(user.getUserUuid());
 	}
 
 	@Transactional
@@ -97,18 +105,8 @@ public class MemberManageService {
 		if (user.getEmail() == null || user.getEmail().isBlank()) {
 			return;
 		}
-		EmailAuthResponseDTO result = emailService.sendOnboardingEmail(user.getEmail(), user.getName());
-		if (result == null) {
-			result = new EmailAuthResponseDTO(false, "메일 발송 결과를 확인할 수 없습니다.");
-		}
-		if (user.getApplicationId() == null) {
-			return;
-		}
-		ApplicationNotification notification = result.isSuccess()
-				? ApplicationNotification.sent(user.getApplicationId(), user.getEmail(), MailNotiType.ONBOARDING)
-				: ApplicationNotification.failed(user.getApplicationId(), user.getEmail(), MailNotiType.ONBOARDING,
-				result.getResponseMessage());
-		applicationNotificationRepository.save(notification);
+		// 발송은 커밋 이후 아웃박스 디스패처가 처리한다.
+		mailOutboxService.enqueue(user.getApplicationId(), MailNotiType.ONBOARDING, user.getEmail(), user.getName());
 	}
 
 	private String hashPassword(String password) {
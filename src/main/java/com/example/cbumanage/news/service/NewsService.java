@@ -1,5 +1,6 @@
 package com.example.cbumanage.news.service;
 
+import com.example.cbumanage.global.common.ViewCountBuffer;
 import com.example.cbumanage.global.error.BaseException;
 import com.example.cbumanage.global.error.ErrorCode;
 import com.example.cbumanage.news.dto.NewsDTO;
@@ -12,7 +13,6 @@ import com.example.cbumanage.news.util.NewsSearchTextNormalizer;
 import com.example.cbumanage.post.entity.Post;
 import com.example.cbumanage.post.entity.enums.PostCategory;
 import com.example.cbumanage.post.repository.PostRepository;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -38,7 +38,7 @@ public class NewsService {
     private final NewsRepository newsRepository;
     private final NewsAttachmentRepository newsAttachmentRepository;
     private final PostRepository postRepository;
-    private final EntityManager entityManager;
+    private final ViewCountBuffer viewCountBuffer;
 
     public NewsDTO.NewsListResponseDTO getNewsList(Pageable pageable, List<NewsCategory> categories, List<NewsletterType> newsletterTypes, String keyword) {
         List<NewsCategory> categoryFilter = resolveCategoryFilter(categories);
@@ -64,14 +64,10 @@ public class NewsService {
         );
     }
 
-    @Transactional
     public NewsDTO.NewsDetailDTO getNewsDetail(Long newsId) {
         News news = findNewsOrThrow(newsId);
-        postRepository.incrementViewCount(news.getPostId());
-        entityManager.clear();
-
-        News refreshedNews = findNewsOrThrow(newsId);
-        return NewsDTO.NewsDetailDTO.from(refreshedNews, attachmentsOf(newsId));
+        viewCountBuffer.increment(ViewCountBuffer.Target.POST, news.getPostId());
+        return NewsDTO.NewsDetailDTO.from(news, attachmentsOf(newsId));
     }
 
     @Transactional
@@ -848,6 +848,20 @@ public class PostDTO {
             ReportSearchInfoDTO search
     ) {}
 
+    @Schema(description = "보고서 목록 커서 조회 응답입니다. hasNext가 true면 nextCursorCreatedAt, nextCursorId로 다음 페이지를 요청합니다.")
+    public record PostReportPreviewCursorDTO(
+            @Schema(description = "보고서 미리보기 목록입니다. 작성일 최신순으로 정렬됩니다.")
+            List<PostReportPreviewDTO> reports,
+            @Schema(description = "다음 페이지가 있는지 여부입니다.")
+            boolean hasNext,
+            @Schema(description = "다음 페이지 요청에 넘길 커서의 작성 일시입니다. 마지막 페이지면 null입니다.")
+            LocalDateTime nextCursorCreatedAt,
+            @Schema(description = "다음 페이지 요청에 넘길 커서의 게시글 ID입니다. 마지막 페이지면 null입니다.")
+            Long nextCursorId,
+            @Schema(description = "같은 필터의 전체 보고서 수입니다. 짧은 시간 캐시된 값이라 방금 작성된 보고서가 잠시 빠질 수 있습니다.")
+            long totalElements
+    ) {}
+
     @Schema(description = "보고서 게시글을 단건조회 할때 포스트+보고서의 정보를 종합적으로 담은 게시글 입니다")
     public record PostReportViewDTO(
         PostInfoDTO postInfoDTO,
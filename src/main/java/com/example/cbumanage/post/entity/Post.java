@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @NoArgsConstructor
-@Table(name="post")
+@Table(name="post",
+        indexes = @Index(name = "idx_post_category_deleted_created", columnList = "category, is_deleted, created_at, post_id"))
 @Getter
 @EntityListeners(AuditingEntityListener.class)
 public class Post {
@@ -74,8 +75,4 @@ public class Post {
         this.deletedAt = LocalDateTime.now();
     }
 
-    public void upViewCount() {
-        this.viewCount++;
-    }
-
 }
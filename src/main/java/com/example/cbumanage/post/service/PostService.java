@@ -4,6 +4,7 @@ import com.example.cbumanage.post.dto.PostDTO;
 import com.example.cbumanage.post.entity.Post;
 import com.example.cbumanage.post.repository.PostRepository;
 import com.example.cbumanage.post.util.PostMapper;
+import com.example.cbumanage.report.service.PostReportPreviewTotalCache;
 import com.example.cbumanage.user.entity.Role;
 import com.example.cbumanage.user.entity.User;
 import com.example.cbumanage.user.repository.UserRepository;
@@ -11,6 +12,7 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -23,6 +25,7 @@ public class PostService {
     private final PostRepository postRepository;
     private final PostMapper postMapper;
     private final UserRepository userRepository;
+    private final PostReportPreviewTotalCache reportPreviewTotalCache;
 
     public Post createPost(PostDTO.PostCreateDTO postCreateDTO) {
         User author = userRepository.findById(postCreateDTO.authorId()).orElseThrow(() -> new EntityNotFoundException("User Not Found"));
@@ -34,7 +37,7 @@ public class PostService {
 
     public Page<PostDTO.PostInfoDTO> getPostsByCategory(Pageable pageable,int category){
         Page<Post> posts=postRepository.findByCategoryAndIsDeletedFalse(category,pageable);
-        return posts.map(post->postMapper.toPostInfoDTO(post));
+        return new PageImpl<>(postMapper.toPostInfoDTOList(posts.getContent()), posts.getPageable(), posts.getTotalElements());
     }
 
 
@@ -66,11 +69,15 @@ public class PostService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         }
         post.delete();
+        // 보고서(카테고리 7) 게시글이면 목록 전체 개수 캐시를 비운다
+        if (post.getCategory() == 7) {
+            reportPreviewTotalCache.invalidateAllAfterCommit();
+        }
     }
 
     public Page<PostDTO.PostMyPageViewDTO>  getMyPosts(Pageable pageable,Long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new EntityNotFoundException("User Not Found"));
         Page<Post> posts = postRepository.findByAuthorIdAndIsDeletedFalse(userId,pageable);
-        return posts.map(post -> postMapper.toPostMyPageViewDTO(post, user));
+        return new PageImpl<>(postMapper.toPostMyPageViewDTOList(posts.getContent(), user), posts.getPageable(), posts.getTotalElements());
     }
 }
@@ -22,6 +22,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
@@ -45,6 +46,21 @@ public class PostMapper {
 
     public PostDTO.PostInfoDTO toPostInfoDTO(Post post) {
         User author = userRepository.findById(post.getAuthorId()).orElseThrow(() -> new EntityNotFoundException("User Not Found"));
+        return toPostInfoDTO(post, author);
+    }
+
+    /*
+    게시글 목록(페이지)을 한 번에 변환합니다. 작성자는 findAllById 한 번으로 모아서 조회하므로
+    페이지 크기와 관계없이 추가 쿼리는 1회입니다
+     */
+    public List<PostDTO.PostInfoDTO> toPostInfoDTOList(List<Post> posts) {
+        Map<Long, User> authors = userRepository.findAllByIdAsMap(posts.stream().map(Post::getAuthorId).toList());
+        return posts.stream()
+                .map(post -> toPostInfoDTO(post, UserRepository.requireUser(authors, post.getAuthorId(), "User Not Found")))
+                .collect(Collectors.toList());
+    }
+
+    private PostDTO.PostInfoDTO toPostInfoDTO(Post post, User author) {
         return new PostDTO.PostInfoDTO(
                 post.getId(),
                 author.getName(),
@@ -71,11 +87,13 @@ public class PostMapper {
         );
     }
 
+    // 보고서 참여 멤버는 findAllById 한 번으로 조회합니다
     private List<ReportMemberDTO.ReportMemberInfoDTO> toReportMemberInfoDTOList(Long reportId) {
-        return reportMemberRepository.findByReportId(reportId).stream()
+        List<ReportMember> reportMembers = reportMemberRepository.findByReportId(reportId);
+        Map<Long, User> members = userRepository.findAllByIdAsMap(reportMembers.stream().map(ReportMember::getUserId).toList());
+        return reportMembers.stream()
                 .map(rm -> {
-                    User member = userRepository.findById(rm.getUserId())
-                            .orElseThrow(() -> new EntityNotFoundException("Member Not Found: " + rm.getUserId()));
+                    User member = UserRepository.requireUser(members, rm.getUserId(), "Member Not Found: " + rm.getUserId());
                     return new ReportMemberDTO.ReportMemberInfoDTO(
                             member.getUserId(),
                             member.getName(),
@@ -415,6 +433,18 @@ public class PostMapper {
     }
 
     public PostDTO.PostMyPageViewDTO  toPostMyPageViewDTO(Post post, User author) {
+        return toPostMyPageViewDTO(post, author, commentRepository.countByPostId(post.getId()));
+    }
+
+    // 마이페이지 게시글 목록 변환. 댓글 수는 페이지의 게시글 전체에 대해 한 번에 집계합니다
+    public List<PostDTO.PostMyPageViewDTO> toPostMyPageViewDTOList(List<Post> posts, User author) {
+        Map<Long, Long> commentCounts = commentRepository.countCommentsByPostIds(posts.stream().map(Post::getId).toList());
+        return posts.stream()
+                .map(post -> toPostMyPageViewDTO(post, author, commentCounts.getOrDefault(post.getId(), 0L)))
+                .collect(Collectors.toList());
+    }
+
+    private PostDTO.PostMyPageViewDTO toPostMyPageViewDTO(Post post, User author, Long commentCount) {
         return PostDTO.PostMyPageViewDTO.builder()
                 .postId(post.getId())
                 .title(post.getTitle())
@@ -425,7 +455,7 @@ public class PostMapper {
                 .authorName(author.getName())
                 .authorGeneration(author.getGeneration())
                 .viewCount(post.getCategory() == 6 ? null : post.getViewCount())
-                .commentCount(commentRepository.countByPostId(post.getId()))
+                .commentCount(commentCount)
                 .build();
 
     }
@@ -16,6 +16,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -99,4 +100,12 @@ public class ProblemController {
     public ApiResponse<List<LanguageResponseDTO>> getAllLanguages() {
         return ApiResponse.success(problemService.getAllLanguages());
     }
+
+    @PostMapping("/reference-data/refresh")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_PRESIDENT', 'ROLE_VICE_PRESIDENT')")
+    @Operation(summary = "문제 분류 캐시 갱신", description = "카테고리/플랫폼/언어 데이터를 DB 에서 변경한 뒤 호출하면 다음 조회부터 변경 내용이 반영됩니다.")
+    public ApiResponse<Void> refreshReferenceData() {
+        problemService.refreshReferenceData();
+        return ApiResponse.success();
+    }
 }
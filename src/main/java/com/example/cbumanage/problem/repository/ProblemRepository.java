@@ -3,6 +3,8 @@ package com.example.cbumanage.problem.repository;
 import com.example.cbumanage.problem.entity.Problem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
@@ -13,6 +15,13 @@ import java.util.Optional;
 public interface ProblemRepository extends JpaRepository<Problem, Long>,
         JpaSpecificationExecutor<Problem> {
 
+    // 목록 조회 시 post/platform/language를 함께 로딩합니다. categories는 컬렉션이라 페이지네이션이 메모리에서
+    // 일어나지 않도록 fetch join 대신 Problem.categories의 @BatchSize로 페이지 단위 IN 쿼리 한 번에 로딩합니다.
+    @Override
+    @EntityGraph(attributePaths = {"post", "platform", "language"})
+    Page<Problem> findAll(Specification<Problem> spec, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"post", "platform", "language"})
     Page<Problem> findByPostAuthorId(Long authorId, Pageable pageable);
 
     Optional<Problem> findByPostId(Long postId);
@@ -0,0 +1,138 @@
+package com.example.cbumanage.problem.service;
+
+import com.example.cbumanage.problem.entity.Category;
+import com.example.cbumanage.problem.entity.Language;
+import com.example.cbumanage.problem.entity.Platform;
+import com.example.cbumanage.problem.repository.CategoryRepository;
+import com.example.cbumanage.problem.repository.LanguageRepository;
+import com.example.cbumanage.problem.repository.PlatformRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 코딩 테스트 문제의 카테고리/플랫폼/언어 기준 데이터를 프로세스 메모리에 보관하는 레지스트리입니다.
+ * 처음 조회할 때 세 테이블을 한 번에 읽어 불변 스냅샷으로 만들고, TTL 이 지나거나 refresh() 가 호출되면 다음 조회에서 다시 읽습니다.
+ * 스냅샷은 통째로 교체되므로 조회 중인 요청은 항상 같은 버전의 데이터를 봅니다.
+ */
+@Component
+public class ProblemReferenceDataRegistry {
+
+    private final CategoryRepository categoryRepository;
+    private final PlatformRepository platformRepository;
+    private final LanguageRepository languageRepository;
+    private final long ttlMillis;
+
+    private volatile Snapshot snapshot;
+
+    public ProblemReferenceDataRegistry(CategoryRepository categoryRepository,
+                                        PlatformRepository platformRepository,
+                                        LanguageRepository languageRepository,
+                                        @Value("${cbu.problem.reference-data.ttl-seconds:600}") long ttlSeconds) {
+        this.categoryRepository = categoryRepository;
+        this.platformRepository = platformRepository;
+        this.languageRepository = languageRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public List<Category> getCategories() {
+        return List.copyOf(current().categories().values());
+    }
+
+    public List<Platform> getPlatforms() {
+        return List.copyOf(current().platforms().values());
+    }
+
+    public List<Language> getLanguages() {
+        return List.copyOf(current().languages().values());
+    }
+
+    // 존재하지 않는 ID는 결과에서 빠집니다. (CategoryRepository.findAllById 와 같은 동작)
+    // 호출 측이 엔티티 컬렉션으로 그대로 넘겨 수정할 수 있으므로 findAllById 처럼 변경 가능한 리스트를 돌려줍니다.
+    public List<Category> findCategories(Collection<Integer> categoryIds) {
+        Map<Integer, Category> categories = current().categories();
+        return categoryIds.stream()
+                .distinct()
+                .map(categories::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    public Optional<Platform> findPlatform(Integer platformId) {
+        return Optional.ofNullable(current().platforms().get(platformId));
+    }
+
+    public Optional<Language> findLanguage(Integer languageId) {
+        return Optional.ofNullable(current().languages().get(languageId));
+    }
+
+    // 현재 스냅샷 버전. 새로 읽을 때마다 1씩 증가합니다.
+    public long version() {
+        return current().version();
+    }
+
+    /**
+     * 기준 데이터가 바뀌었을 때 호출합니다. 다음 조회에서 DB 를 다시 읽습니다.
+     */
+    public void refresh() {
+        synchronized (this) {
+            Snapshot current = snapshot;
+            if (current != null) {
+                snapshot = current.expire();
+            }
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && current.expiresAt() > System.currentTimeMillis()) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current != null && current.expiresAt() > System.currentTimeMillis()) {
+                return current;
+            }
+            long nextVersion = current == null ? 1 : current.version() + 1;
+            snapshot = load(nextVersion);
+            return snapshot;
+        }
+    }
+
+    private Snapshot load(long version) {
+        return new Snapshot(
+                version,
+                System.currentTimeMillis() + ttlMillis,
+                index(categoryRepository.findAll(), Category::getCategoryId),
+                index(platformRepository.findAll(), Platform::getPlatformId),
+                index(languageRepository.findAll(), Language::getLanguageId)
+        );
+    }
+
+    private static <T> Map<Integer, T> index(List<T> rows, Function<T, Integer> idOf) {
+        return rows.stream().collect(Collectors.collectingAndThen(
+                Collectors.toMap(idOf, Function.identity(), (a, b) -> a, LinkedHashMap::new),
+                Collections::unmodifiableMap));
+    }
+
+    private record Snapshot(long version,
+                            long expiresAt,
+                            Map<Integer, Category> categories,
+                            Map<Integer, Platform> platforms,
+                            Map<Integer, Language> languages) {
+
+        Snapshot expire() {
+            return new Snapshot(version, 0, categories, platforms, languages);
+        }
+    }
+}
@@ -18,10 +18,8 @@ import com.example.cbumanage.problem.entity.Language;
 import com.example.cbumanage.problem.repository.ProblemRepository;
 import com.example.cbumanage.post.repository.PostRepository;
 import com.example.cbumanage.user.repository.UserRepository;
-import com.example.cbumanage.problem.repository.CategoryRepository;
-import com.example.cbumanage.problem.repository.PlatformRepository;
-import com.example.cbumanage.problem.repository.LanguageRepository;
 import com.example.cbumanage.comment.repository.CommentRepository;
+import com.example.cbumanage.global.common.ViewCountBuffer;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
@@ -33,6 +31,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import jakarta.persistence.criteria.Predicate;
 import java.util.stream.Collectors;
@@ -47,22 +46,19 @@ public class ProblemService {
     private final ProblemRepository problemRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final CategoryRepository categoryRepository;
-    private final PlatformRepository platformRepository;
-    private final LanguageRepository languageRepository;
+    private final ProblemReferenceDataRegistry referenceDataRegistry;
     private final CommentRepository commentRepository;
+    private final ViewCountBuffer viewCountBuffer;
 
     public ProblemService(ProblemRepository problemRepository, PostRepository postRepository,
-                          UserRepository userRepository, CategoryRepository categoryRepository,
-                          PlatformRepository platformRepository, LanguageRepository languageRepository,
-                          CommentRepository commentRepository) {
+                          UserRepository userRepository, ProblemReferenceDataRegistry referenceDataRegistry,
+                          CommentRepository commentRepository, ViewCountBuffer viewCountBuffer) {
         this.problemRepository = problemRepository;
         this.postRepository = postRepository;
         this.userRepository = userRepository;
-        this.categoryRepository = categoryRepository;
-        this.platformRepository = platformRepository;
-        this.languageRepository = languageRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
         this.commentRepository = commentRepository;
+        this.viewCountBuffer = viewCountBuffer;
     }
 
     /**
@@ -77,15 +73,15 @@ public class ProblemService {
         User member = userRepository.findById(memberId)
                 .orElseThrow(() -> new MemberNotExistsException("ID가 " + memberId + "인 회원을 찾을 수 없습니다."));
 
-        List<Category> categories = categoryRepository.findAllById(request.getCategoryIds());
+        List<Category> categories = referenceDataRegistry.findCategories(request.getCategoryIds());
         if (categories.isEmpty()) {
             throw new EntityNotFoundException("유효한 카테고리를 찾을 수 없습니다.");
         }
 
-        Platform platform = platformRepository.findById(request.getPlatformId())
+        Platform platform = referenceDataRegistry.findPlatform(request.getPlatformId())
                 .orElseThrow(() -> new EntityNotFoundException("ID가 " + request.getPlatformId() + "인 플랫폼을 찾을 수 없습니다."));
 
-        Language language = languageRepository.findById(request.getLanguageId())
+        Language language = referenceDataRegistry.findLanguage(request.getLanguageId())
                 .orElseThrow(() -> new EntityNotFoundException("ID가 " + request.getLanguageId() + "인 언어를 찾을 수 없습니다."));
 
         Post post = Post.create(member.getUserId(), request.getTitle(), request.getContent(), 5);
@@ -124,16 +120,16 @@ public class ProblemService {
         }
 
         List<Category> categories = (request.getCategoryIds() != null && !request.getCategoryIds().isEmpty())
-                ? categoryRepository.findAllById(request.getCategoryIds())
+                ? referenceDataRegistry.findCategories(request.getCategoryIds())
                 : null;
 
         Platform platform = (request.getPlatformId() != null)
-                ? platformRepository.findById(request.getPlatformId())
+                ? referenceDataRegistry.findPlatform(request.getPlatformId())
                 .orElseThrow(() -> new EntityNotFoundException("ID가 " + request.getPlatformId() + "인 플랫폼을 찾을 수 없습니다."))
                 : null;
 
         Language language = (request.getLanguageId() != null)
-                ? languageRepository.findById(request.getLanguageId())
+                ? referenceDataRegistry.findLanguage(request.getLanguageId())
                 .orElseThrow(() -> new EntityNotFoundException("ID가 " + request.getLanguageId() + "인 언어를 찾을 수 없습니다."))
                 : null;
 
@@ -177,6 +173,7 @@ public class ProblemService {
     /**
      * 전체 문제 목록을 페이지네이션하여 조회합니다.
      * categoryId, platformId로 필터링 가능합니다.
+     * 작성자와 댓글 수는 페이지 단위로 각각 한 번의 쿼리로 조회합니다.
      *
      * @param pageable   페이지네이션 정보
      * @param categoryId 필터링할 카테고리 ID 목록
@@ -199,27 +196,32 @@ public class ProblemService {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
 
-        return problemRepository.findAll(spec, pageable)
-                .map(p -> {
-                    User author = userRepository.findById(p.getPost().getAuthorId())
-                            .orElseThrow(() -> new MemberNotExistsException("작성자를 찾을 수 없습니다."));
-                    return ProblemListItemDTO.from(p, author, commentRepository.countByPostId(p.getPost().getId()));
-                });
+        Page<Problem> problems = problemRepository.findAll(spec, pageable);
+        Map<Long, User> authors = userRepository.findAllByIdAsMap(problems.getContent().stream()
+                .map(p -> p.getPost().getAuthorId())
+                .toList());
+        Map<Long, Long> commentCounts = commentRepository.countCommentsByPostIds(postIdsOf(problems.getContent()));
+        return problems.map(p -> {
+            User author = authors.get(p.getPost().getAuthorId());
+            if (author == null) {
+                throw new MemberNotExistsException("작성자를 찾을 수 없습니다.");
+            }
+            return ProblemListItemDTO.from(p, author, commentCounts.getOrDefault(p.getPost().getId(), 0L));
+        });
     }
 
     /**
      * 특정 ID의 문제 상세 정보를 조회합니다.
-     * 조회 시 viewCount를 1 증가시킵니다.
+     * 조회수 증가분은 ViewCountBuffer 에 모았다가 주기적으로 반영합니다.
      *
      * @param problemId 조회할 문제의 ID
      * @return 문제 상세 정보 DTO
      */
-    @Transactional
     public ProblemResponseDTO getProblem(Long postId) {
         Problem problem = problemRepository.findByPostId(postId)
                 .orElseThrow(() -> new EntityNotFoundException("postId가 " + postId + "인 문제를 찾을 수 없습니다."));
 
-        postRepository.incrementViewCount(postId);
+        viewCountBuffer.increment(ViewCountBuffer.Target.POST, postId);
 
         User author = userRepository.findById(problem.getPost().getAuthorId())
                 .orElseThrow(() -> new MemberNotExistsException("작성자를 찾을 수 없습니다."));
@@ -238,15 +240,21 @@ public class ProblemService {
     public Page<ProblemListItemDTO> getMyProblems(Long memberId, Pageable pageable) {
         User member = userRepository.findById(memberId)
                 .orElseThrow(() -> new MemberNotExistsException("ID가 " + memberId + "인 회원을 찾을 수 없습니다."));
-        return problemRepository.findByPostAuthorId(memberId, pageable)
-                .map(p -> ProblemListItemDTO.from(p, member, commentRepository.countByPostId(p.getPost().getId())));
+        Page<Problem> problems = problemRepository.findByPostAuthorId(memberId, pageable);
+        Map<Long, Long> commentCounts = commentRepository.countCommentsByPostIds(postIdsOf(problems.getContent()));
+        return problems.map(p -> ProblemListItemDTO.from(p, member, commentCounts.getOrDefault(p.getPost().getId(), 0L)));
+    }
+
+    // 댓글 수는 게시글 기준으로 집계하므로 페이지에 포함된 문제들의 게시글 id 만 뽑습니다
+    private List<Long> postIdsOf(List<Problem> problems) {
+        return problems.stream().map(p -> p.getPost().getId()).toList();
     }
 
     /**
-     * 모든 카테고리 목록을 조회합니다.
+     * 모든 카테고리 목록을 조회합니다. (메모리 캐시, DB 조회 없음)
      */
     public List<CategoryResponseDTO> getAllCategories() {
-        return categoryRepository.findAll().stream()
+        return referenceDataRegistry.getCategories().stream()
                 .map(CategoryResponseDTO::from)
                 .collect(Collectors.toList());
     }
@@ -255,7 +263,7 @@ public class ProblemService {
      * 모든 플랫폼 목록을 조회합니다.
      */
     public List<PlatformResponseDTO> getAllPlatforms() {
-        return platformRepository.findAll().stream()
+        return referenceDataRegistry.getPlatforms().stream()
                 .map(PlatformResponseDTO::from)
                 .collect(Collectors.toList());
     }
@@ -264,8 +272,16 @@ public class ProblemService {
      * 모든 언어 목록을 조회합니다.
      */
     public List<LanguageResponseDTO> getAllLanguages() {
-        return languageRepository.findAll().stream()
+        return referenceDataRegistry.getLanguages().stream()
                 .map(LanguageResponseDTO::from)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 카테고리/플랫폼/언어 기준 데이터를 DB 에서 변경한 뒤 호출하면, 다음 조회부터 새 데이터가 반영됩니다.
+     * 호출하지 않아도 cbu.problem.reference-data.ttl-seconds 가 지나면 다시 읽습니다.
+     */
+    public void refreshReferenceData() {
+        referenceDataRegistry.refresh();
+    }
 }
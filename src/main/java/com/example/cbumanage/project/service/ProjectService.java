@@ -2,17 +2,16 @@ package com.example.cbumanage.project.service;
 
 import com.example.cbumanage.group.service.GroupService;
 import com.example.cbumanage.post.dto.PostDTO;
+import com.example.cbumanage.global.common.ViewCountBuffer;
 import com.example.cbumanage.global.error.BaseException;
 import com.example.cbumanage.group.entity.Group;
 import com.example.cbumanage.post.entity.Post;
 import com.example.cbumanage.post.service.PostService;
 import com.example.cbumanage.project.entity.Project;
-import com.example.cbumanage.group.entity.enums.GroupMemberStatus;
 import com.example.cbumanage.group.entity.enums.GroupRecruitmentStatus;
 import com.example.cbumanage.project.entity.enums.ProjectFieldType;
 import com.example.cbumanage.user.entity.User;
 import com.example.cbumanage.user.repository.UserRepository;
-import com.example.cbumanage.group.repository.GroupRepository;
 import com.example.cbumanage.project.repository.ProjectRepository;
 import com.example.cbumanage.post.repository.PostRepository;
 import com.example.cbumanage.global.error.ErrorCode;
@@ -33,10 +32,10 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final GroupRepository groupRepository;
     private final PostMapper postMapper;
     private final PostService postService;
     private final GroupService groupService;
+    private final ViewCountBuffer viewCountBuffer;
 
 
     //프로젝트 게시글 생성 메서드
@@ -51,20 +50,19 @@ public class ProjectService {
     }
 
     //프로젝트 상세 조회 메서드 (로그인 시 isLeader·hasApplied 반영)
-    @Transactional
+    @Transactional(readOnly = true)
     public PostDTO.ProjectInfoDetailDTO getProjectByPostId(Long postId, Long userId) {
         Project project = projectRepository.findByPostId(postId)
                 .orElseThrow(()-> new BaseException(ErrorCode.POST_NOT_FOUND));
         Long groupId = project.getGroup() != null ? project.getGroup().getId() : null;
         Boolean hasApplied = groupService.hasAppliedToGroup(groupId, userId);
-        Post post =project.getPost();
-        post.upViewCount();
+        viewCountBuffer.increment(ViewCountBuffer.Target.POST, postId);
         boolean isLeader = userId != null && userId.equals(project.getPost().getAuthorId());
         User author = userRepository.findById(project.getPost().getAuthorId()).orElse(null);
         int active = 0;
         int max = 0;
         if (project.getGroup() != null) {
-            active = groupRepository.countByGroupIdAndStatus(project.getGroup().getId(), GroupMemberStatus.ACTIVE);
+            active = project.getGroup().getActiveMemberCount();
             max = project.getGroup().getMaxActiveMembers();
         }
         return postMapper.toProjectInfoDetailDTO(project, userId, isLeader, hasApplied, author, active, max);
@@ -102,7 +100,7 @@ public class ProjectService {
         int active = 0;
         int max = 0;
         if (p.getGroup() != null) {
-            active = groupRepository.countByGroupIdAndStatus(p.getGroup().getId(), GroupMemberStatus.ACTIVE);
+            active = p.getGroup().getActiveMemberCount();
             max = p.getGroup().getMaxActiveMembers();
         }
         return postMapper.toProjectListDTO(p, author, active, max);
@@ -16,6 +16,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -24,6 +25,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
@@ -92,6 +94,33 @@ public class PostReportController {
         return ApiResponse.success(result);
     }
 
+    @Operation(
+            summary = "보고서 목록 커서 조회",
+            description = """
+                    보고서 게시글 목록을 작성일 최신순으로 size개씩 조회합니다. 조회 범위와 groupIds, groupCategory 필터는 보고서 목록 조회와 같습니다.
+                    첫 페이지는 커서 없이 요청하고, hasNext가 true면 응답의 nextCursorCreatedAt, nextCursorId를 그대로 넘겨 다음 페이지를 요청합니다.
+                    페이지 번호 대신 직전 페이지의 마지막 보고서 다음부터 읽으므로 오래된 보고서까지 넘겨도 응답 속도가 일정합니다.
+                    keyword 검색은 지원하지 않으며, 검색은 보고서 목록 조회를 사용합니다.
+                    """
+    )
+    @GetMapping("/cursor")
+    public ApiResponse<PostDTO.PostReportPreviewCursorDTO> getPostReportPreviewCursorPage(
+            @Parameter(description = "직전 페이지 마지막 보고서의 작성 일시") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @Parameter(description = "직전 페이지 마지막 보고서의 게시글 ID") @RequestParam(required = false) Long cursorId,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "활동 시작일 (포함, yyyy-MM-dd)", example = "2025-01-01") @RequestParam(required = false) LocalDate startDate,
+            @Parameter(description = "활동 종료일 (포함, yyyy-MM-dd)", example = "2025-12-31") @RequestParam(required = false) LocalDate endDate,
+            @Parameter(description = "그룹 ID 필터 (여러 개 전달 가능, OR 조건). MEMBER는 본인 소속 그룹과 교집합으로 적용됩니다.") @RequestParam(required = false) List<Long> groupIds,
+            @Parameter(description = "그룹 카테고리 필터 (1=스터디, 2=프로젝트). 미입력 시 전체 조회. 다른 필터와 AND로 적용됩니다.") @RequestParam(required = false) Integer groupCategory,
+            Authentication authentication) {
+        Long userId = Long.parseLong(authentication.getName());
+        LocalDateTime start = startDate != null ? startDate.atStartOfDay() : null;
+        LocalDateTime end   = endDate   != null ? endDate.atTime(LocalTime.MAX) : null;
+        return ApiResponse.success(postReportService.getPostReportPreviewCursorPage(
+                userId, cursorCreatedAt, cursorId, size, start, end, groupIds, groupCategory));
+    }
+
     @Operation(
             summary = "그룹별 보고서 목록 조회",
             description = """
@@ -199,17 +228,21 @@ public class PostReportController {
     @Operation(
             summary = "그룹 보고서 ZIP 다운로드",
             description = "특정 그룹의 보고서를 모두 HWP 파일로 생성하여 ZIP으로 묶어 다운로드합니다.<br>" +
+                    "ZIP은 생성되는 대로 스트리밍되므로 Content-Length 헤더가 없습니다.<br>" +
+                    "preflight=true(기본값)이면 하나라도 생성에 실패할 경우 ZIP 대신 400과 failedReports 를 반환합니다.<br>" +
+                    "preflight=false이면 실패한 보고서를 건너뛰고 ZIP 안의 failed_reports.txt 에 기록합니다.<br>" +
                     "클라이언트에서는 responseType: 'blob' 으로 받아 Blob 처리 후 다운로드해야 합니다.<br>" +
                     "**권한**: ADMIN / 회장 / 부회장 / 서기"
     )
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_PRESIDENT', 'ROLE_VICE_PRESIDENT', 'ROLE_SECRETARY')")
     @GetMapping("/export/group/{groupId}")
-    public ResponseEntity<?> exportGroupReportsToZip(
+    public ResponseEntity<StreamingResponseBody> exportGroupReportsToZip(
             @PathVariable Long groupId,
+            @RequestParam(defaultValue = "true") boolean preflight,
             Authentication authentication) {
         Long userId = Long.parseLong(authentication.getName());
         try {
-            PostReportHWPService.ZipExportResult result = postReportHWPService.exportGroupToZip(groupId, userId);
+            PostReportHWPService.ZipExportResult result = postReportHWPService.exportGroupToZip(groupId, userId, preflight);
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentDisposition(
@@ -218,12 +251,12 @@ public class PostReportController {
                             .build()
             );
             headers.setContentType(MediaType.parseMediaType("application/zip"));
-            headers.setContentLength(result.zipBytes().length);
 
-            return ResponseEntity.ok().headers(headers).body(result.zipBytes());
+            PostReportHWPService.ZipWriter writer = result.writer();
+            return ResponseEntity.ok().headers(headers).body(writer::writeTo);
         } catch (PostReportHWPService.ZipPartialFailureException e) {
-            return ResponseEntity.badRequest()
-                    .body(Map.of("failedReports", e.getFailedReports()));
+            // 아래 @ExceptionHandler 에서 400 + failedReports 로 응답
+            throw e;
         } catch (ResponseStatusException e) {
             throw new BaseException(ErrorCode.FORBIDDEN);
         } catch (EntityNotFoundException e) {
@@ -232,4 +265,10 @@ public class PostReportController {
             throw new BaseException(ErrorCode.INVALID_REQUEST);
         }
     }
+
+    @ExceptionHandler(PostReportHWPService.ZipPartialFailureException.class)
+    public ResponseEntity<Map<String, List<String>>> handleZipPartialFailure(PostReportHWPService.ZipPartialFailureException e) {
+        return ResponseEntity.badRequest()
+                .body(Map.of("failedReports", e.getFailedReports()));
+    }
 }
@@ -3,6 +3,7 @@ package com.example.cbumanage.report.entity;
 import com.example.cbumanage.group.entity.Group;
 import com.example.cbumanage.post.entity.Post;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
@@ -39,6 +40,11 @@ public class PostReport {
     @Column(columnDefinition = "TEXT")
     private String nextPlan;
 
+    //키워드 검색용 텍스트 (게시글 제목 + 작성자 이름), FULLTEXT ngram 인덱스 대상
+    @Column(name = "search_text", nullable = false, columnDefinition = "TEXT")
+    @Getter(AccessLevel.NONE)
+    private String searchText = "";
+
     //생성자
     public PostReport(Post post, Long groupId, LocalDateTime date, String location, String reportImage, String reflection, String nextPlan) {
         this.post = post;
@@ -78,6 +84,10 @@ public class PostReport {
         this.nextPlan = nextPlan;
     }
 
+    public void changeSearchText(String searchText) {
+        this.searchText = searchText == null ? "" : searchText;
+    }
+
 
 
 }
@@ -4,7 +4,9 @@ import com.example.cbumanage.post.dto.PostDTO;
 import com.example.cbumanage.report.entity.PostReport;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,16 +25,14 @@ public interface PostReportRepository extends JpaRepository<PostReport, Long> {
     /*
     카테고리에 맞는 게시글, 연결된 그룹과 보고서를 join하여 dto로 반환하는 코드 입니다
     PostDTO$PostReportPreviewDTO 는 인텔리제이에선 빨간줄이 뜨지만 실제로는 문제없이 작동 합니다
+    cursorCreatedAt, cursorId 를 함께 넘기면 (createdAt, id) 키셋으로 그 다음 보고서부터 조회하고, 둘 다 null이면 Pageable의 offset을 사용합니다.
+    전체 개수는 페이지마다 세지 않고 countPostReportPreviews* 결과를 PostReportPreviewTotalCache 에서 재사용합니다.
      */
-    @Query(value = """
+    @Query("""
     select new com.example.cbumanage.post.dto.PostDTO$PostReportPreviewDTO(
     p.id,p.title,p.createdAt,p.authorId,m.name,m.generation,
-    g.id,g.groupName, (
-    select count(gm)
-    from GroupMember gm
-    where gm.group.id = g.id
-    and gm.groupMemberStatus=com.example.cbumanage.group.entity.enums.GroupMemberStatus.ACTIVE
-    ),
+    g.id,g.groupName,
+    coalesce(cast(g.activeMemberCount as Long), 0L),
     g.category,
     r.date
     )
@@ -44,31 +44,36 @@ public interface PostReportRepository extends JpaRepository<PostReport, Long> {
     and p.isDeleted = false
     and (:startDate is null or r.date >= :startDate)
     and (:endDate is null or r.date <= :endDate)
+    and (:cursorCreatedAt is null
+         or p.createdAt < :cursorCreatedAt
+         or (p.createdAt = :cursorCreatedAt and p.id < :cursorId))
     order by p.createdAt desc, p.id desc
-""",
-    countQuery = """
+""")
+    Slice<PostDTO.PostReportPreviewDTO> findPostReportPreviews(@Param("category") int category,
+                                                               @Param("startDate") LocalDateTime startDate,
+                                                               @Param("endDate") LocalDateTime endDate,
+                                                               @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                               @Param("cursorId") Long cursorId,
+                                                               Pageable pageable);
+
+    @Query("""
     select count(p)
     from Post p
     join PostReport r on r.post = p
-    where p.category =:category
+    where p.category = :category
     and p.isDeleted = false
     and (:startDate is null or r.date >= :startDate)
     and (:endDate is null or r.date <= :endDate)
 """)
-    Page<PostDTO.PostReportPreviewDTO> findPostReportPreviews(Pageable pageable, @Param("category") int category,
-                                                              @Param("startDate") LocalDateTime startDate,
-                                                              @Param("endDate") LocalDateTime endDate);
-
+    long countPostReportPreviews(@Param("category") int category,
+                                 @Param("startDate") LocalDateTime startDate,
+                                 @Param("endDate") LocalDateTime endDate);
 
     @Query(value = """
     select new com.example.cbumanage.post.dto.PostDTO$PostReportPreviewDTO(
     p.id,p.title,p.createdAt,p.authorId,m.name,m.generation,
-    g.id,g.groupName, (
-    select count(gm)
-    from GroupMember gm
-    where gm.group.id = g.id
-    and gm.groupMemberStatus=com.example.cbumanage.group.entity.enums.GroupMemberStatus.ACTIVE
-    ),
+    g.id,g.groupName,
+    coalesce(cast(g.activeMemberCount as Long), 0L),
     g.category,
     r.date
     )
@@ -88,50 +93,11 @@ public interface PostReportRepository extends JpaRepository<PostReport, Long> {
 """)
     Page<PostDTO.PostReportPreviewDTO> findMyPostReportPreviews(Pageable pageable, @Param("category")int category,Long userId);
 
-    @Query(value = """
-    select new com.example.cbumanage.post.dto.PostDTO$PostReportPreviewDTO(
-    p.id,p.title,p.createdAt,p.authorId,m.name,m.generation,
-    g.id,g.groupName, (
-    select count(gm)
-    from GroupMember gm
-    where gm.group.id = g.id
-    and gm.groupMemberStatus=com.example.cbumanage.group.entity.enums.GroupMemberStatus.ACTIVE
-    ),
-    g.category,
-    r.date
-    )
-    from Post p
-    join PostReport r on r.post = p
-    left join Group g on r.groupId = g.id
-    left join User m on m.userId = p.authorId
-    where p.category = :category and r.groupId = :groupId
-    and p.isDeleted = false
-    and (:startDate is null or r.date >= :startDate)
-    and (:endDate is null or r.date <= :endDate)
-    order by p.createdAt desc, p.id desc
-""",
-            countQuery = """
-    select count(p)
-    from Post p
-    join PostReport r on r.post = p
-    where p.category =:category
-    and p.isDeleted = false and r.groupId = :groupId
-    and (:startDate is null or r.date >= :startDate)
-    and (:endDate is null or r.date <= :endDate)
-""")
-    Page<PostDTO.PostReportPreviewDTO> findPostReportPreviewsByGroupId(Pageable pageable, @Param("category") int category, @Param("groupId") Long groupId,
-                                                                       @Param("startDate") LocalDateTime startDate,
-                                                                       @Param("endDate") LocalDateTime endDate);
-
-    @Query(value = """
+    @Query("""
     select new com.example.cbumanage.post.dto.PostDTO$PostReportPreviewDTO(
     p.id,p.title,p.createdAt,p.authorId,m.name,m.generation,
-    g.id,g.groupName, (
-    select count(gm)
-    from GroupMember gm
-    where gm.group.id = g.id
-    and gm.groupMemberStatus=com.example.cbumanage.group.entity.enums.GroupMemberStatus.ACTIVE
-    ),
+    g.id,g.groupName,
+    coalesce(cast(g.activeMemberCount as Long), 0L),
     g.category,
     r.date
     )
@@ -144,9 +110,20 @@ public interface PostReportRepository extends JpaRepository<PostReport, Long> {
     and p.isDeleted = false
     and (:startDate is null or r.date >= :startDate)
     and (:endDate is null or r.date <= :endDate)
+    and (:cursorCreatedAt is null
+         or p.createdAt < :cursorCreatedAt
+         or (p.createdAt = :cursorCreatedAt and p.id < :cursorId))
     order by p.createdAt desc, p.id desc
-""",
-    countQuery = """
+""")
+    Slice<PostDTO.PostReportPreviewDTO> findPostReportPreviewsByGroupIds(@Param("category") int category,
+                                                                         @Param("groupIds") Collection<Long> groupIds,
+                                                                         @Param("startDate") LocalDateTime startDate,
+                                                                         @Param("endDate") LocalDateTime endDate,
+                                                                         @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                                         @Param("cursorId") Long cursorId,
+                                                                         Pageable pageable);
+
+    @Query("""
     select count(p)
     from Post p
     join PostReport r on r.post = p
@@ -156,34 +133,32 @@ public interface PostReportRepository extends JpaRepository<PostReport, Long> {
     and (:startDate is null or r.date >= :startDate)
     and (:endDate is null or r.date <= :endDate)
 """)
-    Page<PostDTO.PostReportPreviewDTO> findPostReportPreviewsByGroupIds(Pageable pageable, @Param("category") int category,
-                                                                        @Param("groupIds") Collection<Long> groupIds,
-                                                                        @Param("startDate") LocalDateTime startDate,
-                                                                        @Param("endDate") LocalDateTime endDate);
+    long countPostReportPreviewsByGroupIds(@Param("category") int category,
+                                           @Param("groupIds") Collection<Long> groupIds,
+                                           @Param("startDate") LocalDateTime startDate,
+                                           @Param("endDate") LocalDateTime endDate);
 
     @Query(
         value = """
             SELECT p.post_id
             FROM post p
             JOIN post_report r ON r.post_id = p.post_id
-            JOIN user m ON m.user_id = p.author_id
             WHERE p.category = :category
               AND p.is_deleted = false
               AND (:startDate IS NULL OR r.`date` >= :startDate)
               AND (:endDate IS NULL OR r.`date` <= :endDate)
-              AND CONCAT(p.title, ' ', m.name) REGEXP :pattern
+              AND MATCH(r.search_text) AGAINST (:searchQuery IN BOOLEAN MODE)
             ORDER BY p.created_at DESC, p.post_id DESC
             """,
         countQuery = """
             SELECT COUNT(*)
             FROM post p
             JOIN post_report r ON r.post_id = p.post_id
-            JOIN user m ON m.user_id = p.author_id
             WHERE p.category = :category
               AND p.is_deleted = false
               AND (:startDate IS NULL OR r.`date` >= :startDate)
               AND (:endDate IS NULL OR r.`date` <= :endDate)
-              AND CONCAT(p.title, ' ', m.name) REGEXP :pattern
+              AND MATCH(r.search_text) AGAINST (:searchQuery IN BOOLEAN MODE)
             """,
         nativeQuery = true
     )
@@ -191,7 +166,7 @@ public interface PostReportRepository extends JpaRepository<PostReport, Long> {
             @Param("category") int category,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate,
-            @Param("pattern") String pattern,
+            @Param("searchQuery") String searchQuery,
             Pageable pageable
     );
 
@@ -200,26 +175,24 @@ public interface PostReportRepository extends JpaRepository<PostReport, Long> {
             SELECT p.post_id
             FROM post p
             JOIN post_report r ON r.post_id = p.post_id
-            JOIN user m ON m.user_id = p.author_id
             WHERE p.category = :category
               AND r.group_id IN :groupIds
               AND p.is_deleted = false
               AND (:startDate IS NULL OR r.`date` >= :startDate)
               AND (:endDate IS NULL OR r.`date` <= :endDate)
-              AND CONCAT(p.title, ' ', m.name) REGEXP :pattern
+              AND MATCH(r.search_text) AGAINST (:searchQuery IN BOOLEAN MODE)
             ORDER BY p.created_at DESC, p.post_id DESC
             """,
         countQuery = """
             SELECT COUNT(*)
             FROM post p
             JOIN post_report r ON r.post_id = p.post_id
-            JOIN user m ON m.user_id = p.author_id
             WHERE p.category = :category
               AND r.group_id IN :groupIds
               AND p.is_deleted = false
               AND (:startDate IS NULL OR r.`date` >= :startDate)
               AND (:endDate IS NULL OR r.`date` <= :endDate)
-              AND CONCAT(p.title, ' ', m.name) REGEXP :pattern
+              AND MATCH(r.search_text) AGAINST (:searchQuery IN BOOLEAN MODE)
             """,
         nativeQuery = true
     )
@@ -228,19 +201,15 @@ public interface PostReportRepository extends JpaRepository<PostReport, Long> {
             @Param("groupIds") Collection<Long> groupIds,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate,
-            @Param("pattern") String pattern,
+            @Param("searchQuery") String searchQuery,
             Pageable pageable
     );
 
     @Query("""
         select new com.example.cbumanage.post.dto.PostDTO$PostReportPreviewDTO(
         p.id,p.title,p.createdAt,p.authorId,m.name,m.generation,
-        g.id,g.groupName, (
-        select count(gm)
-        from GroupMember gm
-        where gm.group.id = g.id
-        and gm.groupMemberStatus=com.example.cbumanage.group.entity.enums.GroupMemberStatus.ACTIVE
-        ),
+        g.id,g.groupName,
+        coalesce(cast(g.activeMemberCount as Long), 0L),
         g.category,
         r.date
         )
@@ -251,4 +220,16 @@ public interface PostReportRepository extends JpaRepository<PostReport, Long> {
         where p.id in :postIds
         """)
     List<PostDTO.PostReportPreviewDTO> findPreviewsByPostIds(@Param("postIds") List<Long> postIds);
+
+    /**
+     * 작성자 이름이 바뀌면 해당 작성자의 보고서 검색 텍스트(제목 + 작성자 이름)를 함께 갱신합니다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE post_report r
+            JOIN post p ON p.post_id = r.post_id
+            SET r.search_text = TRIM(CONCAT_WS(' ', p.title, :authorName))
+            WHERE p.author_id = :authorId
+            """, nativeQuery = true)
+    void refreshSearchTextByAuthorId(@Param("authorId") Long authorId, @Param("authorName") String authorName);
 }
@@ -15,6 +15,8 @@ import com.example.cbumanage.report.repository.PostReportRepository;
 import com.example.cbumanage.reportmember.dto.ReportMemberDTO;
 import com.example.cbumanage.reportmember.entity.ReportMember;
 import com.example.cbumanage.reportmember.repository.ReportMemberRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.persistence.EntityNotFoundException;
 import kr.dogfoot.hwplib.object.HWPFile;
 import kr.dogfoot.hwplib.object.bodytext.Section;
@@ -41,15 +43,27 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -68,10 +82,42 @@ public class PostReportHWPService {
     @Value("${aws_bucket}")
     private String awsBucket;
 
+    @Value("${cbu.report.export.threads:4}")
+    private int exportThreads;
+
+    // HWP 생성 + S3 이미지 다운로드/압축을 수행하는 공용 풀. 동시에 여러 내보내기가 들어와도 스레드 수는 고정입니다.
+    private ExecutorService exportExecutor;
+
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일");
+    private static final String FAILED_REPORTS_ENTRY = "failed_reports.txt";
+    private static final String TEMPLATE_PATH = "/templates/HWPTemplate.hwp";
+    private static final int MAX_TEMPLATE_MEMBERS = 30;
+    private static final List<String> PLACEHOLDER_KEYS = buildPlaceholderKeys();
+
+    // 시작 시 한 번 읽어 둔 템플릿 원본. 내보낼 때마다 clone 해서 사용하며 원본은 수정하지 않습니다.
+    private HWPFile templatePrototype;
+    // 템플릿에서 플레이스홀더를 포함한 문단의 위치와, 그 문단에 들어 있는 키 목록
+    private List<PlaceholderParagraph> placeholderParagraphs;
+    // 템플릿 표 안 그림의 BinItemID (없으면 -1)
+    private int templatePictureBinItemId;
 
     public record HWPExportResult(String title, byte[] hwpBytes) {}
-    public record ZipExportResult(String fileName, byte[] zipBytes) {}
+    public record ZipExportResult(String fileName, ZipWriter writer) {}
+
+    // 웹 계층 타입에 의존하지 않도록 ZIP 을 쓰는 콜백만 돌려줍니다. 컨트롤러가 응답 스트림에 연결합니다.
+    @FunctionalInterface
+    public interface ZipWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    // ZIP 한 항목: 엔트리 이름과 HWP 생성에 필요한 데이터 (DB 조회는 요청 스레드에서 미리 끝냅니다)
+    private record ZipExportItem(String entryName, String title, PostDTO.PostReportToHWPDTO data) {}
+
+    /*
+    문단 위치: [sectionIdx, paragraphIdx] 뒤에 표 안으로 들어갈 때마다 [controlIdx, rowIdx, cellIdx, paragraphIdx] 가 붙습니다.
+    clone 한 HWPFile 도 구조가 같으므로 같은 경로로 바로 찾아갈 수 있습니다.
+     */
+    private record PlaceholderParagraph(int[] path, List<String> keys) {}
 
     public static class ZipPartialFailureException extends RuntimeException {
         private final List<String> failedReports;
@@ -86,6 +132,27 @@ public class PostReportHWPService {
         }
     }
 
+    @PostConstruct
+    void init() throws Exception {
+        try (InputStream is = getClass().getResourceAsStream(TEMPLATE_PATH)) {
+            if (is == null) throw new IllegalStateException("HWP 템플릿 파일을 찾을 수 없습니다.");
+            templatePrototype = HWPReader.fromInputStream(is);
+        }
+        placeholderParagraphs = indexPlaceholderParagraphs(templatePrototype);
+        templatePictureBinItemId = findPictureInsideTableOnly(templatePrototype);
+
+        exportExecutor = Executors.newFixedThreadPool(exportThreads, runnable -> {
+            Thread thread = new Thread(runnable, "report-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdownExportExecutor() {
+        exportExecutor.shutdownNow();
+    }
+
     /**
      * 개발자 슈퍼 계정 또는 회장/부회장 권한 확인 후 보고서 HWP 파일 생성
      */
@@ -97,14 +164,18 @@ public class PostReportHWPService {
         PostReport report = postReportRepository.findByPostId(postId)
                 .orElseThrow(() -> new EntityNotFoundException("Report Not Found"));
 
-        byte[] hwpBytes = buildHWPBytes(post, report);
+        byte[] hwpBytes = renderHWP(loadHWPData(post, report));
         return new HWPExportResult(post.getTitle(), hwpBytes);
     }
 
     /**
-     * 개발자 슈퍼 계정 또는 회장/부회장 권한 확인 후 특정 그룹의 보고서 전체를 ZIP으로 묶어 반환
+     * 개발자 슈퍼 계정 또는 회장/부회장 권한 확인 후 특정 그룹의 보고서 전체를 ZIP으로 묶어 응답 스트림에 직접 씁니다.
+     * HWP 생성은 exportExecutor 에서 병렬로 수행하되, ZIP 엔트리 순서는 보고서 조회 순서를 그대로 따릅니다.
+     *
+     * @param preflight true 면 모든 HWP 를 먼저 임시 파일로 생성해 보고, 하나라도 실패하면 ZIP 없이 ZipPartialFailureException 을 던집니다.
+     *                  false 면 생성되는 대로 스트리밍하며, 실패한 보고서는 ZIP 마지막의 failed_reports.txt 에 기록합니다.
      */
-    public ZipExportResult exportGroupToZip(Long groupId, Long userId) throws Exception {
+    public ZipExportResult exportGroupToZip(Long groupId, Long userId, boolean preflight) throws Exception {
         checkAdminOrManager(userId);
 
         Group group = groupRepository.findByIdAndIsDeletedFalse(groupId)
@@ -115,51 +186,149 @@ public class PostReportHWPService {
             throw new EntityNotFoundException("해당 그룹에 보고서가 없습니다.");
         }
 
-        // 1단계: 모든 보고서 HWP 생성 시도, 실패 수집
+        // 1단계: 요청 스레드에서 DB 데이터를 모두 읽고 엔트리 이름을 확정
         List<String> failedReports = new ArrayList<>();
-        List<Object[]> built = new ArrayList<>(); // [Post, byte[]]
+        List<ZipExportItem> items = new ArrayList<>();
+        Set<String> usedNames = new HashSet<>();
         for (PostReport report : reports) {
-            Post post = postRepository.findById(report.getPost().getId())
-                    .orElseThrow(() -> new EntityNotFoundException("Post Not Found"));
+            Post post = report.getPost();
             try {
-                byte[] hwpBytes = buildHWPBytes(post, report);
-                built.add(new Object[]{post, hwpBytes});
+                PostDTO.PostReportToHWPDTO data = loadHWPData(post, report);
+                items.add(new ZipExportItem(uniqueEntryName(post.getTitle(), usedNames), post.getTitle(), data));
             } catch (Exception e) {
                 failedReports.add(post.getTitle() + ": " + e.getMessage());
             }
         }
 
+        String zipFileName = sanitizeFileName(group.getGroupName()) + "_report.zip";
+        if (!preflight) {
+            return new ZipExportResult(zipFileName, out -> streamZip(out, items, failedReports));
+        }
+
+        // 2단계(preflight): 전부 생성해 본 뒤 하나라도 실패하면 ZIP 을 만들지 않음.
+        // 생성된 HWP 는 힙에 모아 두지 않고 임시 파일로 내려 두었다가, 응답을 쓸 때 디스크에서 읽어 스트리밍합니다.
         if (!failedReports.isEmpty()) {
             throw new ZipPartialFailureException(failedReports);
         }
+        List<Future<Path>> futures = items.stream()
+                .map(item -> exportExecutor.submit(() -> spoolToTempFile(renderHWP(item.data()))))
+                .toList();
+        List<Path> spooled = new ArrayList<>();
+        boolean handedOff = false;
+        try {
+            for (int i = 0; i < items.size(); i++) {
+                Path path = awaitRendered(futures.get(i), items.get(i), failedReports);
+                if (path != null) {
+                    spooled.add(path);
+                }
+            }
+            if (!failedReports.isEmpty()) {
+                throw new ZipPartialFailureException(failedReports);
+            }
+            handedOff = true;
+        } finally {
+            if (!handedOff) {
+                futures.forEach(future -> future.cancel(true));
+                deleteQuietly(spooled);
+            }
+        }
 
-        // 2단계: 전부 성공한 경우에만 ZIP 생성
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (ZipOutputStream zos = new ZipOutputStream(baos, StandardCharsets.UTF_8)) {
-            Set<String> usedNames = new HashSet<>();
-            for (Object[] item : built) {
-                Post post = (Post) item[0];
-                byte[] hwpBytes = (byte[]) item[1];
-
-                String baseName = sanitizeFileName(post.getTitle());
-                String entryName = baseName + ".hwp";
-                if (usedNames.contains(entryName)) {
-                    int counter = 1;
-                    do {
-                        entryName = baseName + "_" + counter + ".hwp";
-                        counter++;
-                    } while (usedNames.contains(entryName));
+        return new ZipExportResult(zipFileName, out -> {
+            try {
+                ZipOutputStream zos = new ZipOutputStream(out, StandardCharsets.UTF_8);
+                for (int i = 0; i < items.size(); i++) {
+                    zos.putNextEntry(new ZipEntry(items.get(i).entryName()));
+                    Files.copy(spooled.get(i), zos);
+                    zos.closeEntry();
                 }
-                usedNames.add(entryName);
+                zos.finish();
+                zos.flush();
+            } finally {
+                deleteQuietly(spooled);
+            }
+        });
+    }
 
-                zos.putNextEntry(new ZipEntry(entryName));
-                zos.write(hwpBytes);
-                zos.closeEntry();
+    /**
+     * 최대 exportThreads * 2 개까지만 미리 생성을 걸어 두고, 앞에서부터 순서대로 완료를 기다려 씁니다.
+     * 메모리에는 진행 중인 창(window) 크기만큼의 HWP 만 머무릅니다.
+     */
+    private void streamZip(OutputStream out, List<ZipExportItem> items, List<String> failedReports) throws IOException {
+        int windowSize = Math.max(1, exportThreads * 2);
+        Deque<Future<byte[]>> window = new ArrayDeque<>();
+        ZipOutputStream zos = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        try {
+            int next = 0;
+            for (ZipExportItem item : items) {
+                while (next < items.size() && window.size() < windowSize) {
+                    PostDTO.PostReportToHWPDTO data = items.get(next++).data();
+                    window.addLast(exportExecutor.submit(() -> renderHWP(data)));
+                }
+                byte[] hwpBytes = awaitRendered(window.pollFirst(), item, failedReports);
+                if (hwpBytes != null) {
+                    writeEntry(zos, item.entryName(), hwpBytes);
+                }
+            }
+            if (!failedReports.isEmpty()) {
+                writeEntry(zos, FAILED_REPORTS_ENTRY, String.join("\n", failedReports).getBytes(StandardCharsets.UTF_8));
             }
+            zos.finish();
+            zos.flush();
+        } finally {
+            // 클라이언트 연결 끊김 등으로 중단되면 남은 생성 작업을 취소
+            window.forEach(future -> future.cancel(true));
         }
+    }
 
-        String zipFileName = sanitizeFileName(group.getGroupName()) + "_report.zip";
-        return new ZipExportResult(zipFileName, baos.toByteArray());
+    private <T> T awaitRendered(Future<T> future, ZipExportItem item, List<String> failedReports) throws IOException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            failedReports.add(item.title() + ": " + e.getCause().getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("보고서 ZIP 생성이 중단되었습니다.");
+        }
+    }
+
+    private void writeEntry(ZipOutputStream zos, String entryName, byte[] bytes) throws IOException {
+        zos.putNextEntry(new ZipEntry(entryName));
+        zos.write(bytes);
+        zos.closeEntry();
+    }
+
+    private Path spoolToTempFile(byte[] hwpBytes) throws IOException {
+        Path path = Files.createTempFile("report-export-", ".hwp");
+        try {
+            Files.write(path, hwpBytes);
+            return path;
+        } catch (IOException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    private void deleteQuietly(List<Path> paths) {
+        for (Path path : paths) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException ignored) {
+                // best-effort: 임시 디렉터리 정리는 OS 에 맡깁니다.
+            }
+        }
+    }
+
+    private String uniqueEntryName(String title, Set<String> usedNames) {
+        String baseName = sanitizeFileName(title);
+        String entryName = baseName + ".hwp";
+        int counter = 1;
+        while (usedNames.contains(entryName) || entryName.equals(FAILED_REPORTS_ENTRY)) {
+            entryName = baseName + "_" + counter + ".hwp";
+            counter++;
+        }
+        usedNames.add(entryName);
+        return entryName;
     }
 
     // -----------------------------------------------------------------------
@@ -175,9 +344,9 @@ public class PostReportHWPService {
     }
 
     /**
-     * Post + PostReport 엔티티로부터 HWP 바이트 배열 생성
+     * Post + PostReport 엔티티로부터 HWP 생성에 필요한 데이터 조회 (DB 접근은 여기서만 합니다)
      */
-    private byte[] buildHWPBytes(Post post, PostReport report) throws Exception {
+    private PostDTO.PostReportToHWPDTO loadHWPData(Post post, PostReport report) {
         User author = userRepository.findById(post.getAuthorId())
                 .orElseThrow(() -> new EntityNotFoundException("Author Not Found"));
 
@@ -196,7 +365,7 @@ public class PostReportHWPService {
                 })
                 .collect(Collectors.toList());
 
-        PostDTO.PostReportToHWPDTO dto = new PostDTO.PostReportToHWPDTO(
+        return new PostDTO.PostReportToHWPDTO(
                 post.getTitle(),
                 author.getName(),
                 post.getContent(),
@@ -207,7 +376,12 @@ public class PostReportHWPService {
                 members.size(),
                 members
         );
+    }
 
+    /**
+     * S3 이미지 다운로드/압축 후 HWP 바이트 배열 생성 (DB 접근이 없어 exportExecutor 에서 실행해도 안전합니다)
+     */
+    private byte[] renderHWP(PostDTO.PostReportToHWPDTO dto) throws Exception {
         // S3에서 이미지 다운로드 & JPEG 압축
         byte[] imageBytes = null;
         if (dto.reportImage() != null && !dto.reportImage().isBlank()) {
@@ -245,24 +419,18 @@ public class PostReportHWPService {
     // -----------------------------------------------------------------------
 
     private byte[] generateHWP(PostDTO.PostReportToHWPDTO dto, byte[] imageBytes) throws Exception {
-        InputStream is = getClass().getResourceAsStream("/templates/HWPTemplate.hwp");
-        if (is == null) throw new IllegalStateException("HWP 템플릿 파일을 찾을 수 없습니다.");
-        HWPFile hwpFile = HWPReader.fromInputStream(is);
+        HWPFile hwpFile = templatePrototype.clone(true);
 
-        // 텍스트 플레이스홀더 치환
+        // 텍스트 플레이스홀더 치환 — 미리 찾아 둔 문단만 방문
         Map<String, String> placeholders = buildPlaceholders(dto);
-        for (Section section : hwpFile.getBodyText().getSectionList()) {
-            for (Paragraph para : section) {
-                processParagraph(para, placeholders);
-            }
+        for (PlaceholderParagraph target : placeholderParagraphs) {
+            Paragraph para = resolveParagraph(hwpFile, target.path());
+            replaceInCharList(para.getText().getCharList(), placeholders, target.keys());
         }
 
         // 표 안 이미지 교체 — 미리 준비된 imageBytes 사용
-        if (imageBytes != null && imageBytes.length > 0) {
-            int oldBinItemId = findPictureInsideTableOnly(hwpFile);
-            if (oldBinItemId >= 0) {
-                replaceImageByBinItemId(hwpFile, oldBinItemId, imageBytes);
-            }
+        if (imageBytes != null && imageBytes.length > 0 && templatePictureBinItemId >= 0) {
+            replaceImageByBinItemId(hwpFile, templatePictureBinItemId, imageBytes);
         }
 
         ByteArrayOutputStream out = new ByteArrayOutputStream();
@@ -284,7 +452,7 @@ public class PostReportHWPService {
         map.put("{membercount}", String.valueOf(dto.memberCount()));
 
         List<ReportMemberDTO.ReportMemberInfoDTO> members = dto.reportMembers();
-        for (int i = 0; i < 30; i++) {
+        for (int i = 0; i < MAX_TEMPLATE_MEMBERS; i++) {
             String suffix = String.valueOf(i + 1);
             if (members != null && i < members.size()) {
                 ReportMemberDTO.ReportMemberInfoDTO m = members.get(i);
@@ -304,29 +472,82 @@ public class PostReportHWPService {
     // 텍스트 치환
     // -----------------------------------------------------------------------
 
-    private void processParagraph(Paragraph para, Map<String, String> placeholders) {
+    private static List<String> buildPlaceholderKeys() {
+        List<String> keys = new ArrayList<>(List.of(
+                "{authorName}", "{month}", "{date}", "{location}", "{content}", "{membercount}"));
+        for (int i = 1; i <= MAX_TEMPLATE_MEMBERS; i++) {
+            keys.add("{name" + i + "}");
+            keys.add("{dep" + i + "}");
+            keys.add("{num" + i + "}");
+        }
+        return List.copyOf(keys);
+    }
+
+    private List<PlaceholderParagraph> indexPlaceholderParagraphs(HWPFile hwpFile) {
+        List<PlaceholderParagraph> result = new ArrayList<>();
+        ArrayList<Section> sections = hwpFile.getBodyText().getSectionList();
+        for (int s = 0; s < sections.size(); s++) {
+            Section section = sections.get(s);
+            for (int p = 0; p < section.getParagraphCount(); p++) {
+                indexParagraph(section.getParagraph(p), new int[]{s, p}, result);
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    private void indexParagraph(Paragraph para, int[] path, List<PlaceholderParagraph> result) {
         if (para.getText() != null) {
-            replaceInCharList(para.getText().getCharList(), placeholders);
+            String text = normalText(para.getText().getCharList());
+            List<String> keys = PLACEHOLDER_KEYS.stream().filter(text::contains).toList();
+            if (!keys.isEmpty()) {
+                result.add(new PlaceholderParagraph(path, keys));
+            }
         }
 
         ArrayList<Control> controls = para.getControlList();
         if (controls == null) return;
 
-        for (Control control : controls) {
-            if (control instanceof ControlTable tableControl) {
-                for (Row row : tableControl.getRowList()) {
-                    for (Cell cell : row.getCellList()) {
-                        ParagraphList pl = cell.getParagraphList();
-                        for (int i = 0; i < pl.getParagraphCount(); i++) {
-                            processParagraph(pl.getParagraph(i), placeholders);
-                        }
+        for (int c = 0; c < controls.size(); c++) {
+            if (!(controls.get(c) instanceof ControlTable tableControl)) continue;
+            ArrayList<Row> rows = tableControl.getRowList();
+            for (int r = 0; r < rows.size(); r++) {
+                ArrayList<Cell> cells = rows.get(r).getCellList();
+                for (int k = 0; k < cells.size(); k++) {
+                    ParagraphList pl = cells.get(k).getParagraphList();
+                    for (int i = 0; i < pl.getParagraphCount(); i++) {
+                        int[] childPath = Arrays.copyOf(path, path.length + 4);
+                        childPath[path.length] = c;
+                        childPath[path.length + 1] = r;
+                        childPath[path.length + 2] = k;
+                        childPath[path.length + 3] = i;
+                        indexParagraph(pl.getParagraph(i), childPath, result);
                     }
                 }
             }
         }
     }
 
-    private void replaceInCharList(ArrayList<HWPChar> charList, Map<String, String> placeholders) {
+    private Paragraph resolveParagraph(HWPFile hwpFile, int[] path) {
+        Paragraph para = hwpFile.getBodyText().getSectionList().get(path[0]).getParagraph(path[1]);
+        for (int i = 2; i < path.length; i += 4) {
+            ControlTable tableControl = (ControlTable) para.getControlList().get(path[i]);
+            Cell cell = tableControl.getRowList().get(path[i + 1]).getCellList().get(path[i + 2]);
+            para = cell.getParagraphList().getParagraph(path[i + 3]);
+        }
+        return para;
+    }
+
+    private String normalText(ArrayList<HWPChar> charList) {
+        StringBuilder sb = new StringBuilder();
+        for (HWPChar c : charList) {
+            if (c instanceof HWPCharNormal && c.getCode() != 13) {
+                sb.appendCodePoint(c.getCode());
+            }
+        }
+        return sb.toString();
+    }
+
+    private void replaceInCharList(ArrayList<HWPChar> charList, Map<String, String> placeholders, List<String> keys) {
         List<Integer> normalIndices = new ArrayList<>();
         StringBuilder sb = new StringBuilder();
 
@@ -340,9 +561,9 @@ public class PostReportHWPService {
 
         String text = sb.toString();
         boolean changed = false;
-        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-            if (text.contains(entry.getKey())) {
-                text = text.replace(entry.getKey(), entry.getValue());
+        for (String key : keys) {
+            if (text.contains(key)) {
+                text = text.replace(key, placeholders.getOrDefault(key, ""));
                 changed = true;
             }
         }
@@ -0,0 +1,99 @@
+package com.example.cbumanage.report.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 보고서 목록의 전체 개수를 필터 조합(카테고리, 그룹 ID 목록, 활동 기간)별로 짧게 보관하는 캐시입니다.
+ * 페이지를 넘길 때마다 같은 조인과 날짜 조건으로 count 를 다시 실행하지 않도록 합니다.
+ * 보고서가 작성·수정·삭제되면 전체를 무효화하며, 그 밖의 변경(그룹 멤버 변동 등)은 TTL 안에 반영됩니다.
+ */
+@Component
+public class PostReportPreviewTotalCache {
+
+    private final long ttlMillis;
+    private final Map<FilterKey, CachedTotal> entries;
+    // 무효화 이전에 시작한 count 결과가 무효화 뒤에 저장되지 않도록 세대를 비교한다
+    private long generation;
+
+    public PostReportPreviewTotalCache(@Value("${cbu.report.preview-total-cache.ttl-seconds:30}") long ttlSeconds,
+                                       @Value("${cbu.report.preview-total-cache.max-size:1000}") int maxSize) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FilterKey, CachedTotal> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환하고, 없거나 만료되었으면 loader 로 센 값을 채웁니다.
+     *
+     * @param groupIds null 이면 그룹 조건 없이 전체를 센 값으로 취급합니다 (순서와 중복은 무시)
+     */
+    public long getOrLoad(int category, Collection<Long> groupIds, LocalDateTime startDate, LocalDateTime endDate,
+                          LongSupplier loader) {
+        FilterKey key = new FilterKey(category,
+                groupIds == null ? null : groupIds.stream().distinct().sorted().toList(),
+                startDate, endDate);
+        long now = System.currentTimeMillis();
+        long loadGeneration;
+        synchronized (entries) {
+            CachedTotal cached = entries.get(key);
+            if (cached != null) {
+                if (cached.expiresAt() > now) {
+                    return cached.total();
+                }
+                entries.remove(key);
+            }
+            loadGeneration = generation;
+        }
+
+        long total = loader.getAsLong();
+        synchronized (entries) {
+            if (loadGeneration == generation) {
+                entries.put(key, new CachedTotal(total, now + ttlMillis));
+            }
+        }
+        return total;
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화합니다. 커밋 전에 지우면 그 사이의 count 가 이전 값을 다시 채울 수 있습니다.
+     */
+    public void invalidateAllAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateAll();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateAll();
+            }
+        });
+    }
+
+    private record FilterKey(int category, List<Long> groupIds, LocalDateTime startDate, LocalDateTime endDate) {
+    }
+
+    private record CachedTotal(long total, long expiresAt) {
+    }
+}
@@ -12,8 +12,10 @@ import com.example.cbumanage.user.repository.UserRepository;
 import com.example.cbumanage.post.service.PostService;
 import com.example.cbumanage.post.repository.PostRepository;
 import com.example.cbumanage.report.repository.PostReportRepository;
+import com.example.cbumanage.report.util.PostReportSearchTextNormalizer;
 import com.example.cbumanage.group.repository.GroupMemberRepository;
 import com.example.cbumanage.group.repository.GroupRepository;
+import com.example.cbumanage.group.service.GroupMembershipCache;
 import com.example.cbumanage.post.util.PostMapper;
 import com.example.cbumanage.reportmember.entity.ReportMember;
 import com.example.cbumanage.reportmember.repository.ReportMemberRepository;
@@ -27,7 +29,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 
 @Service
 @RequiredArgsConstructor
@@ -48,11 +50,18 @@ public class PostReportService {
     private final GroupMemberRepository groupMemberRepository;
     private final GroupRepository groupRepository;
     private final ReportMemberRepository reportMemberRepository;
+    private final PostReportPreviewTotalCache previewTotalCache;
+    private final GroupMembershipCache membershipCache;
+
+    private static final int REPORT_CATEGORY = 7;
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
 
     public PostReport createReport(PostDTO.ReportCreateDTO req) {
         Post post = postRepository.findById(req.postId()).orElseThrow(() -> new EntityNotFoundException("Post Not Found"));
         PostReport report = PostReport.create(post, req.groupId(), req.date(), req.location(), req.reportImage(), req.reflection(), req.nextPlan());
+        report.changeSearchText(toSearchText(post));
         PostReport saved = postReportRepository.save(report);
+        previewTotalCache.invalidateAllAfterCommit();
         return saved;
     }
 
@@ -80,11 +89,7 @@ public class PostReportService {
         Set<Long> invalidMemberIds = new LinkedHashSet<>();
 
         for (Long memberId : memberIds) {
-            boolean isActiveGroupMember = groupMemberRepository.existsByGroupIdAndUserUserIdAndGroupMemberStatus(
-                    groupId,
-                    memberId,
-                    GroupMemberStatus.ACTIVE
-            );
+            boolean isActiveGroupMember = membershipCache.isActiveMember(groupId, memberId);
             if (!isActiveGroupMember) {
                 invalidMemberIds.add(memberId);
             }
@@ -107,26 +112,7 @@ fetch join -> 해결
                                                                           LocalDateTime startDate, LocalDateTime endDate,
                                                                           String keyword, List<Long> filterGroupIds,
                                                                           Integer groupCategory) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new EntityNotFoundException("User Not Found"));
-        boolean isAdmin = user.getRole().canViewAllReports();
-
-        List<Long> categoryGroupIds = groupCategory != null
-                ? groupRepository.findIdsByCategory(groupCategory)
-                : null;
-
-        List<Long> effectiveGroupIds = resolveGroupIds(isAdmin, userId, filterGroupIds);
-
-        if (categoryGroupIds != null) {
-            if (categoryGroupIds.isEmpty()) {
-                PostDTO.ReportSearchInfoDTO searchInfo = (keyword != null && !keyword.isBlank())
-                        ? PostDTO.ReportSearchInfoDTO.of(keyword) : PostDTO.ReportSearchInfoDTO.none();
-                return new PostDTO.PostReportPreviewSearchDTO(Page.empty(pageable), searchInfo);
-            }
-            Set<Long> categorySet = new LinkedHashSet<>(categoryGroupIds);
-            effectiveGroupIds = effectiveGroupIds == null
-                    ? categoryGroupIds
-                    : effectiveGroupIds.stream().filter(categorySet::contains).toList();
-        }
+        List<Long> effectiveGroupIds = resolveEffectiveGroupIds(userId, filterGroupIds, groupCategory);
 
         if (effectiveGroupIds != null && effectiveGroupIds.isEmpty()) {
             PostDTO.ReportSearchInfoDTO searchInfo = (keyword != null && !keyword.isBlank())
@@ -139,13 +125,75 @@ fetch join -> 해결
             return new PostDTO.PostReportPreviewSearchDTO(result, PostDTO.ReportSearchInfoDTO.of(keyword));
         }
 
-        if (effectiveGroupIds == null) {
-            Page<PostDTO.PostReportPreviewDTO> result = postReportRepository.findPostReportPreviews(pageable, 7, startDate, endDate);
-            return new PostDTO.PostReportPreviewSearchDTO(result, PostDTO.ReportSearchInfoDTO.none());
+        Page<PostDTO.PostReportPreviewDTO> result = findPreviewPage(pageable, effectiveGroupIds, startDate, endDate);
+        return new PostDTO.PostReportPreviewSearchDTO(result, PostDTO.ReportSearchInfoDTO.none());
+    }
+
+    /*
+보고서 목록을 (createdAt, postId) 키셋으로 조회합니다. 조회 범위와 필터는 getPostReportPreviewDTOList 와 같고,
+OFFSET 없이 직전 페이지의 마지막 보고서 다음부터 읽으므로 아카이브 깊은 곳에서도 페이지 비용이 일정합니다.
+전체 개수는 필터 조합별로 캐시된 값을 사용합니다. 키워드 검색은 FULLTEXT 관련도 순서라 기존 페이지 조회를 사용합니다.
+ */
+    public PostDTO.PostReportPreviewCursorDTO getPostReportPreviewCursorPage(Long userId,
+                                                                             LocalDateTime cursorCreatedAt, Long cursorId, int size,
+                                                                             LocalDateTime startDate, LocalDateTime endDate,
+                                                                             List<Long> filterGroupIds, Integer groupCategory) {
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new BaseException(ErrorCode.INVALID_REQUEST);
+        }
+        List<Long> effectiveGroupIds = resolveEffectiveGroupIds(userId, filterGroupIds, groupCategory);
+        if (effectiveGroupIds != null && effectiveGroupIds.isEmpty()) {
+            return new PostDTO.PostReportPreviewCursorDTO(List.of(), false, null, null, 0);
         }
 
-        Page<PostDTO.PostReportPreviewDTO> result = postReportRepository.findPostReportPreviewsByGroupIds(pageable, 7, effectiveGroupIds, startDate, endDate);
-        return new PostDTO.PostReportPreviewSearchDTO(result, PostDTO.ReportSearchInfoDTO.none());
+        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE)));
+        Slice<PostDTO.PostReportPreviewDTO> slice = findPreviewSlice(effectiveGroupIds, startDate, endDate, cursorCreatedAt, cursorId, pageable);
+        long total = countPreviews(effectiveGroupIds, startDate, endDate);
+        if (!slice.hasNext()) {
+            return new PostDTO.PostReportPreviewCursorDTO(slice.getContent(), false, null, null, total);
+        }
+        PostDTO.PostReportPreviewDTO last = slice.getContent().get(slice.getNumberOfElements() - 1);
+        return new PostDTO.PostReportPreviewCursorDTO(slice.getContent(), true, last.createdAt(), last.postId(), total);
+    }
+
+    // 조회 가능한 그룹 ID 목록입니다. null 이면 전체, 빈 목록이면 조회할 보고서가 없습니다.
+    private List<Long> resolveEffectiveGroupIds(Long userId, List<Long> filterGroupIds, Integer groupCategory) {
+        User user = userRepository.findById(userId).orElseThrow(() -> new EntityNotFoundException("User Not Found"));
+        boolean isAdmin = user.getRole().canViewAllReports();
+
+        List<Long> effectiveGroupIds = resolveGroupIds(isAdmin, userId, filterGroupIds);
+        if (groupCategory == null) {
+            return effectiveGroupIds;
+        }
+
+        List<Long> categoryGroupIds = groupRepository.findIdsByCategory(groupCategory);
+        if (categoryGroupIds.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> categorySet = new LinkedHashSet<>(categoryGroupIds);
+        return effectiveGroupIds == null
+                ? categoryGroupIds
+                : effectiveGroupIds.stream().filter(categorySet::contains).toList();
+    }
+
+    // 목록 내용만 OFFSET 으로 읽고, 전체 개수는 필터 조합별 캐시에서 가져옵니다.
+    private Page<PostDTO.PostReportPreviewDTO> findPreviewPage(Pageable pageable, List<Long> groupIds,
+                                                               LocalDateTime startDate, LocalDateTime endDate) {
+        Slice<PostDTO.PostReportPreviewDTO> slice = findPreviewSlice(groupIds, startDate, endDate, null, null, pageable);
+        return new PageImpl<>(slice.getContent(), pageable, countPreviews(groupIds, startDate, endDate));
+    }
+
+    private Slice<PostDTO.PostReportPreviewDTO> findPreviewSlice(List<Long> groupIds, LocalDateTime startDate, LocalDateTime endDate,
+                                                                 LocalDateTime cursorCreatedAt, Long cursorId, Pageable pageable) {
+        return groupIds == null
+                ? postReportRepository.findPostReportPreviews(REPORT_CATEGORY, startDate, endDate, cursorCreatedAt, cursorId, pageable)
+                : postReportRepository.findPostReportPreviewsByGroupIds(REPORT_CATEGORY, groupIds, startDate, endDate, cursorCreatedAt, cursorId, pageable);
+    }
+
+    private long countPreviews(List<Long> groupIds, LocalDateTime startDate, LocalDateTime endDate) {
+        return previewTotalCache.getOrLoad(REPORT_CATEGORY, groupIds, startDate, endDate, () -> groupIds == null
+                ? postReportRepository.countPostReportPreviews(REPORT_CATEGORY, startDate, endDate)
+                : postReportRepository.countPostReportPreviewsByGroupIds(REPORT_CATEGORY, groupIds, startDate, endDate));
     }
 
     private List<Long> resolveGroupIds(boolean isAdmin, Long userId, List<Long> filterGroupIds) {
@@ -170,19 +218,16 @@ fetch join -> 해결
             Pageable pageable, List<Long> effectiveGroupIds,
             LocalDateTime startDate, LocalDateTime endDate, String keyword) {
 
-        String pattern = Arrays.stream(keyword.trim().split("\\s+"))
-                .filter(t -> !t.isBlank())
-                .distinct()
-                .map(t -> "(?=.*" + t + ")")
-                .collect(Collectors.joining());
+        String searchQuery = toSearchQuery(keyword);
+        if (searchQuery.isEmpty()) return new PageImpl<>(List.of(), pageable, 0);
 
         Pageable searchPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
         Page<Long> postIds;
 
         if (effectiveGroupIds == null) {
-            postIds = postReportRepository.searchPostIdsByKeyword(7, startDate, endDate, pattern, searchPageable);
+            postIds = postReportRepository.searchPostIdsByKeyword(7, startDate, endDate, searchQuery, searchPageable);
         } else {
-            postIds = postReportRepository.searchPostIdsByKeywordAndGroupIds(7, effectiveGroupIds, startDate, endDate, pattern, searchPageable);
+            postIds = postReportRepository.searchPostIdsByKeywordAndGroupIds(7, effectiveGroupIds, startDate, endDate, searchQuery, searchPageable);
         }
 
         List<Long> ids = postIds.getContent();
@@ -199,20 +244,30 @@ fetch join -> 해결
         return new PageImpl<>(ordered, pageable, postIds.getTotalElements());
     }
 
+    // 키워드의 모든 토큰을 포함해야 하는 FULLTEXT boolean 쿼리. 검색 가능한 토큰이 없으면 빈 문자열입니다.
+    private String toSearchQuery(String keyword) {
+        return PostReportSearchTextNormalizer.toRequiredBooleanQuery(
+                PostReportSearchTextNormalizer.toSearchTokens(keyword));
+    }
+
+    private String toSearchText(Post post) {
+        String authorName = userRepository.findById(post.getAuthorId())
+                .map(User::getName)
+                .orElse(null);
+        return PostReportSearchTextNormalizer.toSearchText(post.getTitle(), authorName);
+    }
+
     public PostDTO.PostReportPreviewSearchDTO getGroupPostReportPreviewDTOList(Pageable pageable, Long groupId,
                                                                                LocalDateTime startDate, LocalDateTime endDate,
                                                                                String keyword, Long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new EntityNotFoundException("User Not Found"));
         if (!user.getRole().canViewAllReports()) throw new ResponseStatusException(HttpStatus.FORBIDDEN);
         if (keyword != null && !keyword.isBlank()) {
-            String pattern = Arrays.stream(keyword.trim().split("\\s+"))
-                    .filter(t -> !t.isBlank())
-                    .distinct()
-                    .map(t -> "(?=.*" + t + ")")
-                    .collect(Collectors.joining());
+            String searchQuery = toSearchQuery(keyword);
+            if (searchQuery.isEmpty()) return new PostDTO.PostReportPreviewSearchDTO(new PageImpl<>(List.of(), pageable, 0), PostDTO.ReportSearchInfoDTO.of(keyword));
 
             Pageable searchPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
-            Page<Long> postIds = postReportRepository.searchPostIdsByKeywordAndGroupIds(7, List.of(groupId), startDate, endDate, pattern, searchPageable);
+            Page<Long> postIds = postReportRepository.searchPostIdsByKeywordAndGroupIds(7, List.of(groupId), startDate, endDate, searchQuery, searchPageable);
 
             List<Long> ids = postIds.getContent();
             if (ids.isEmpty()) return new PostDTO.PostReportPreviewSearchDTO(new PageImpl<>(List.of(), pageable, 0), PostDTO.ReportSearchInfoDTO.of(keyword));
@@ -228,7 +283,7 @@ fetch join -> 해결
             return new PostDTO.PostReportPreviewSearchDTO(new PageImpl<>(ordered, pageable, postIds.getTotalElements()), PostDTO.ReportSearchInfoDTO.of(keyword));
         }
 
-        Page<PostDTO.PostReportPreviewDTO> result = postReportRepository.findPostReportPreviewsByGroupId(pageable, 7, groupId, startDate, endDate);
+        Page<PostDTO.PostReportPreviewDTO> result = findPreviewPage(pageable, List.of(groupId), startDate, endDate);
         return new PostDTO.PostReportPreviewSearchDTO(result, PostDTO.ReportSearchInfoDTO.none());
     }
 
@@ -246,12 +301,7 @@ fetch join -> 해결
         Post post = postRepository.findById(postId).orElseThrow(() -> new EntityNotFoundException("Post Not Found"));
         User user = userRepository.findById(userId).orElseThrow(() -> new EntityNotFoundException("User Not Found"));
         boolean isAdmin = user.getRole().canViewAllReports();
-        boolean isActiveMember =
-                groupMemberRepository.existsActiveMember(
-                        userId,
-                        report.getGroupId(),
-                        GroupMemberStatus.ACTIVE
-                );
+        boolean isActiveMember = membershipCache.isActiveMember(report.getGroupId(), userId);
 
         if (!(isAdmin || isActiveMember)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
@@ -277,6 +327,8 @@ Create 와  마찬가지로 컨트롤러에서 부르는 메소드는 이 메소
                 .orElseThrow(() -> new EntityNotFoundException("Report Not Found"));
         PostDTO.ReportUpdateDTO reportUpdateDTO=postMapper.topostReportUpdateDTO(req);
         updateReport(reportUpdateDTO,report);
+        report.changeSearchText(toSearchText(post));
+        previewTotalCache.invalidateAllAfterCommit();
         reportMemberRepository.deleteByReportId(report.getId());
         saveReportMembers(report.getId(), report.getGroupId(), req.memberIds());
     }
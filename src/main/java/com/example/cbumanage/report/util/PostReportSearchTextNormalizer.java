@@ -0,0 +1,46 @@
+package com.example.cbumanage.report.util;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+보고서 검색용 search_text 와 FULLTEXT boolean 쿼리를 만드는 유틸입니다.
+검색 대상은 게시글 제목과 작성자 이름이며, 키워드의 모든 토큰을 포함해야 검색됩니다(AND).
+ */
+public final class PostReportSearchTextNormalizer {
+
+    private PostReportSearchTextNormalizer() {
+    }
+
+    public static String toSearchText(String title, String authorName) {
+        return normalizeWhitespace(nullToBlank(title) + " " + nullToBlank(authorName));
+    }
+
+    public static List<String> toSearchTokens(String keyword) {
+        String normalized = nullToBlank(keyword).replaceAll("[^\\p{L}\\p{N}]+", " ");
+
+        Set<String> tokens = new LinkedHashSet<>();
+        Arrays.stream(normalizeWhitespace(normalized).split(" "))
+                .filter(token -> !token.isBlank())
+                .forEach(tokens::add);
+
+        return List.copyOf(tokens);
+    }
+
+    public static String toRequiredBooleanQuery(List<String> tokens) {
+        return tokens.stream()
+                .map(token -> "+" + token)
+                .reduce((left, right) -> left + " " + right)
+                .orElse("");
+    }
+
+    private static String normalizeWhitespace(String value) {
+        return nullToBlank(value).replaceAll("\\s+", " ").trim();
+    }
+
+    private static String nullToBlank(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -31,7 +31,7 @@ public class ResourceController {
     private final ResourceService resourceService;
 
     @PostMapping
-    @Operation(summary = "자료 등록", description = "자료 링크를 등록하고 Open Graph 메타데이터를 함께 저장합니다.", requestBody = @RequestBody(required = true, content = @Content(mediaType = "application/json",
+    @Operation(summary = "자료 등록", description = "자료 링크를 등록합니다. Open Graph 메타데이터는 캐시에 있으면 함께 저장하고, 없으면 등록 후 비동기로 채웁니다.", requestBody = @RequestBody(required = true, content = @Content(mediaType = "application/json",
             examples = {@ExampleObject(name = "링크만 전송", value = """
                     { "link": "https://programmers.co.kr/learn/challenges" }
                     """), @ExampleObject(name = "제목 직접 입력", value = """
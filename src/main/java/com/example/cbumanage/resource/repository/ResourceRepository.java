@@ -3,11 +3,23 @@ package com.example.cbumanage.resource.repository;
 import com.example.cbumanage.resource.entity.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface ResourceRepository extends JpaRepository<Resource, Long> {
 
-    Page<Resource> findByPostAuthorId(Long authorId, Pageable pageable);
+    // 목록 조회 시 게시글을 함께 로딩하고, 삭제된 게시글은 쿼리 단계에서 제외합니다.
+    @EntityGraph(attributePaths = "post")
+    Page<Resource> findByPostIsDeletedFalse(Pageable pageable);
+
+    @EntityGraph(attributePaths = "post")
+    Page<Resource> findByPostAuthorIdAndPostIsDeletedFalse(Long authorId, Pageable pageable);
+
+    // 트랜잭션 밖에서 작성자 확인까지 하므로 게시글을 함께 읽는다.
+    @EntityGraph(attributePaths = "post")
+    Optional<Resource> findWithPostByResourceId(Long resourceId);
 }
@@ -0,0 +1,168 @@
+package com.example.cbumanage.resource.service;
+
+import com.example.cbumanage.resource.util.OgMetaParser;
+import com.example.cbumanage.resource.util.OgMetaParser.OgMeta;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * URL 별 OG 메타데이터를 캐시하고, 외부 요청은 크기가 제한된 전용 풀에서만 수행합니다.
+ * 파싱에 성공한 결과는 positiveTtl, 아무 태그도 얻지 못한 결과는 negativeTtl 동안 보관해 같은 실패 URL 을 반복 요청하지 않습니다.
+ * 같은 URL 에 대한 요청이 진행 중이면 새 요청을 보내지 않고 진행 중인 결과를 함께 기다립니다.
+ */
+@Component
+public class OgMetaFetcher {
+
+    private final OgMetaParser ogMetaParser;
+    private final long positiveTtlMillis;
+    private final long negativeTtlMillis;
+    private final long waitMillis;
+    private final int threads;
+    private final int queueCapacity;
+    private final Map<String, CachedOgMeta> entries;
+    private final Map<String, CompletableFuture<OgMeta>> inFlight = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor fetchExecutor;
+
+    public OgMetaFetcher(OgMetaParser ogMetaParser,
+                         @Value("${cbu.resource.og.cache.positive-ttl-seconds:21600}") long positiveTtlSeconds,
+                         @Value("${cbu.resource.og.cache.negative-ttl-seconds:600}") long negativeTtlSeconds,
+                         @Value("${cbu.resource.og.cache.max-size:2000}") int maxSize,
+                         @Value("${cbu.resource.og.wait-ms:6000}") long waitMillis,
+                         @Value("${cbu.resource.og.threads:4}") int threads,
+                         @Value("${cbu.resource.og.queue-capacity:100}") int queueCapacity) {
+        this.ogMetaParser = ogMetaParser;
+        this.positiveTtlMillis = positiveTtlSeconds * 1000;
+        this.negativeTtlMillis = negativeTtlSeconds * 1000;
+        this.waitMillis = waitMillis;
+        this.threads = threads;
+        this.queueCapacity = queueCapacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedOgMeta> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @PostConstruct
+    void init() {
+        fetchExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "og-fetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdownFetchExecutor() {
+        fetchExecutor.shutdownNow();
+    }
+
+    /**
+     * fetchAsync 결과를 받아 후속 작업(OG 반영 등)을 실행할 풀. 요청 스레드에서 후속 작업이 돌지 않도록 쓴다.
+     * 대기열이 가득 차면 RejectedExecutionException 으로 future 가 예외 완료된다.
+     */
+    public Executor callbackExecutor() {
+        return fetchExecutor;
+    }
+
+    /**
+     * 만료되지 않은 캐시 항목만 반환하며, 외부 요청은 보내지 않습니다.
+     */
+    public Optional<OgMeta> getCached(String url) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            CachedOgMeta cached = entries.get(url);
+            if (cached == null) {
+                return Optional.empty();
+            }
+            if (cached.expiresAt() > now) {
+                return Optional.of(cached.meta());
+            }
+            entries.remove(url);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 캐시에 있으면 완료된 future 를, 없으면 전용 풀에서 가져오는 future 를 반환합니다.
+     * 풀과 대기열이 모두 차 있으면 요청을 보내지 않고 빈 결과로 완료하며, 이 결과는 캐시하지 않습니다.
+     */
+    public CompletableFuture<OgMeta> fetchAsync(String url) {
+        Optional<OgMeta> cached = getCached(url);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        CompletableFuture<OgMeta> created = new CompletableFuture<>();
+        CompletableFuture<OgMeta> existing = inFlight.putIfAbsent(url, created);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            fetchExecutor.execute(() -> {
+                OgMeta meta = ogMetaParser.parse(url);
+                // 캐시에 먼저 넣은 뒤 진행 중 목록에서 빼야 그 사이에 들어온 요청이 다시 외부로 나가지 않는다.
+                store(url, meta);
+                inFlight.remove(url, created);
+                created.complete(meta);
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(url, created);
+            created.complete(OgMeta.EMPTY);
+        }
+        return created;
+    }
+
+    /**
+     * fetchAsync 의 결과를 최대 waitMillis 동안 기다립니다. 시간 안에 받지 못하면 빈 결과를 반환하고,
+     * 진행 중인 요청은 계속 진행되어 다음 호출부터 캐시로 응답합니다.
+     */
+    public OgMeta fetch(String url) {
+        try {
+            return fetchAsync(url).get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return OgMeta.EMPTY;
+        } catch (ExecutionException | TimeoutException e) {
+            return OgMeta.EMPTY;
+        }
+    }
+
+    /**
+     * 캐시를 무시하고 다시 가져옵니다. 같은 URL 의 요청이 이미 진행 중이면 그 결과를 사용합니다.
+     */
+    public OgMeta refetch(String url) {
+        synchronized (entries) {
+            entries.remove(url);
+        }
+        return fetch(url);
+    }
+
+    private void store(String url, OgMeta meta) {
+        long ttl = meta.isEmpty() ? negativeTtlMillis : positiveTtlMillis;
+        synchronized (entries) {
+            entries.put(url, new CachedOgMeta(meta, System.currentTimeMillis() + ttl));
+        }
+    }
+
+    private record CachedOgMeta(OgMeta meta, long expiresAt) {
+    }
+}
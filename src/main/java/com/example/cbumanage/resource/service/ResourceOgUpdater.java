@@ -0,0 +1,48 @@
+package com.example.cbumanage.resource.service;
+
+import com.example.cbumanage.post.entity.Post;
+import com.example.cbumanage.resource.repository.ResourceRepository;
+import com.example.cbumanage.resource.util.OgMetaParser.OgMeta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 외부에서 가져온 OG 메타데이터를 자료에 반영합니다.
+ * 외부 요청이 끝난 뒤 fetch 스레드에서 호출되므로, 반영에 필요한 짧은 쓰기 트랜잭션만 엽니다.
+ * 등록 트랜잭션의 afterCommit 에서 불리더라도 이미 끝난 트랜잭션에 합류하지 않도록 항상 새 트랜잭션을 시작합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResourceOgUpdater {
+
+    private final ResourceRepository resourceRepository;
+
+    /**
+     * 새로 얻은 값만 덮어쓰고, 얻지 못한 필드는 기존 값을 유지합니다.
+     * placeholderTitle 이 주어지면 게시글 제목이 아직 그 값일 때만 og:title 로 바꿉니다.
+     *
+     * @param resourceId       반영할 자료 ID (그 사이 삭제되었으면 무시)
+     * @param ogMeta           가져온 OG 메타데이터
+     * @param placeholderTitle 제목 없이 등록되어 임시로 넣은 제목, 제목을 바꾸지 않으려면 null
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void apply(Long resourceId, OgMeta ogMeta, String placeholderTitle) {
+        if (ogMeta.isEmpty()) {
+            return;
+        }
+        resourceRepository.findById(resourceId).ifPresent(resource -> {
+            if (ogMeta.image() != null || ogMeta.description() != null) {
+                resource.updateOg(
+                        ogMeta.image() != null ? ogMeta.image() : resource.getOgImage(),
+                        ogMeta.description() != null ? ogMeta.description() : resource.getOgDescription()
+                );
+            }
+            Post post = resource.getPost();
+            if (placeholderTitle != null && ogMeta.title() != null && placeholderTitle.equals(post.getTitle())) {
+                post.changeTitle(ogMeta.title());
+            }
+        });
+    }
+}
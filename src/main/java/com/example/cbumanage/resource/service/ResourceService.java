@@ -11,12 +11,17 @@ import com.example.cbumanage.resource.entity.Resource;
 import com.example.cbumanage.user.repository.UserRepository;
 import com.example.cbumanage.post.repository.PostRepository;
 import com.example.cbumanage.resource.repository.ResourceRepository;
-import com.example.cbumanage.resource.util.OgMetaParser;
+import com.example.cbumanage.resource.util.OgMetaParser.OgMeta;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
 
 /**
  * 자료방 게시글 관련 비즈니스 로직을 처리하는 서비스입니다.
@@ -28,18 +33,23 @@ public class ResourceService {
     private final ResourceRepository resourceRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final OgMetaParser ogMetaParser;
+    private final OgMetaFetcher ogMetaFetcher;
+    private final ResourceOgUpdater resourceOgUpdater;
 
     public ResourceService(ResourceRepository resourceRepository, PostRepository postRepository,
-                           UserRepository userRepository, OgMetaParser ogMetaParser) {
+                           UserRepository userRepository, OgMetaFetcher ogMetaFetcher,
+                           ResourceOgUpdater resourceOgUpdater) {
         this.resourceRepository = resourceRepository;
         this.postRepository = postRepository;
         this.userRepository = userRepository;
-        this.ogMetaParser = ogMetaParser;
+        this.ogMetaFetcher = ogMetaFetcher;
+        this.resourceOgUpdater = resourceOgUpdater;
     }
 
     /**
      * 자료방 게시글을 등록합니다.
+     * 미리보기 등으로 캐시된 OG 정보가 있으면 바로 반영하고, 없으면 외부 요청 없이 먼저 저장한 뒤
+     * 커밋 이후 OG 정보를 비동기로 가져와 채웁니다. 제목이 비어 있으면 그때까지 링크를 제목으로 사용합니다.
      *
      * @param request  게시글 생성 요청 DTO (제목, 링크)
      * @param memberId 작성자 회원 ID
@@ -50,11 +60,12 @@ public class ResourceService {
         User member = userRepository.findById(memberId)
                 .orElseThrow(() -> new MemberNotExistsException("ID가 " + memberId + "인 회원을 찾을 수 없습니다."));
 
-        OgMetaParser.OgMeta ogMeta = ogMetaParser.parse(request.getLink());
+        OgMeta cachedOg = ogMetaFetcher.getCached(request.getLink()).orElse(null);
 
         String title = request.getTitle();
-        if (title == null || title.isBlank()) {
-            title = (ogMeta.title() != null) ? ogMeta.title() : request.getLink();
+        boolean titleFromOg = title == null || title.isBlank();
+        if (titleFromOg) {
+            title = (cachedOg != null && cachedOg.title() != null) ? cachedOg.title() : request.getLink();
         }
 
         Post post = Post.create(member.getUserId(), title, "", 6);
@@ -65,25 +76,36 @@ public class ResourceService {
                 .link(request.getLink())
                 .build();
 
-        resource.updateOg(ogMeta.image(), ogMeta.description());
+        if (cachedOg != null) {
+            resource.updateOg(cachedOg.image(), cachedOg.description());
+        }
 
         resourceRepository.save(resource);
+        if (cachedOg == null) {
+            enrichOgAfterCommit(resource.getResourceId(), resource.getLink(), titleFromOg ? title : null);
+        }
         return ResourceListItemDTO.from(resource, member);
     }
 
     /**
      * 자료방 게시글 목록을 페이지네이션하여 조회합니다.
+     * 작성자는 페이지 단위로 한 번에 조회하므로 페이지 크기와 관계없이 쿼리 수가 일정합니다.
      *
      * @param pageable 페이지네이션 정보
      * @return 페이지네이션된 게시글 목록 DTO
      */
     public Page<ResourceListItemDTO> getResources(Pageable pageable) {
-        return resourceRepository.findAll(pageable)
-                .map(r -> {
-                    User author = userRepository.findById(r.getPost().getAuthorId())
-                            .orElseThrow(() -> new MemberNotExistsException("작성자를 찾을 수 없습니다."));
-                    return ResourceListItemDTO.from(r, author);
-                });
+        Page<Resource> resources = resourceRepository.findByPostIsDeletedFalse(pageable);
+        Map<Long, User> authors = userRepository.findAllByIdAsMap(resources.getContent().stream()
+                .map(r -> r.getPost().getAuthorId())
+                .toList());
+        return resources.map(r -> {
+            User author = authors.get(r.getPost().getAuthorId());
+            if (author == null) {
+                throw new MemberNotExistsException("작성자를 찾을 수 없습니다.");
+            }
+            return ResourceListItemDTO.from(r, author);
+        });
     }
 
     /**
@@ -96,7 +118,7 @@ public class ResourceService {
     public Page<ResourceListItemDTO> getMyResources(Long memberId, Pageable pageable) {
         User member = userRepository.findById(memberId)
                 .orElseThrow(() -> new MemberNotExistsException("ID가 " + memberId + "인 회원을 찾을 수 없습니다."));
-        return resourceRepository.findByPostAuthorId(memberId, pageable)
+        return resourceRepository.findByPostAuthorIdAndPostIsDeletedFalse(memberId, pageable)
                 .map(r -> ResourceListItemDTO.from(r, member));
     }
 
@@ -106,34 +128,33 @@ public class ResourceService {
      * @param url 미리보기할 외부 URL
      * @return OG 제목, 이미지, 설명
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public OgMetaPreviewDTO previewOg(String url) {
-        return new OgMetaPreviewDTO(ogMetaParser.parse(url));
+        return new OgMetaPreviewDTO(ogMetaFetcher.fetch(url));
     }
 
     /**
      * 자료방 게시글의 OG 메타 정보를 URL에서 다시 파싱하여 갱신합니다.
      * 작성자 본인만 갱신할 수 있습니다.
+     * 외부 요청 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 가져오고, 반영만 짧은 트랜잭션으로 처리합니다.
      *
      * @param resourceId 갱신할 게시글 ID
      * @param memberId   요청 회원 ID
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void refreshOg(Long resourceId, Long memberId) {
-        Resource resource = resourceRepository.findById(resourceId)
+        Resource resource = resourceRepository.findWithPostByResourceId(resourceId)
                 .orElseThrow(() -> new EntityNotFoundException("ID가 " + resourceId + "인 자료를 찾을 수 없습니다."));
 
         if (!resource.getPost().getAuthorId().equals(memberId)) {
             throw new MemberDoesntHavePermissionException("이 자료의 OG 정보를 갱신할 권한이 없습니다.");
         }
 
-        OgMetaParser.OgMeta ogMeta = ogMetaParser.parse(resource.getLink());
+        OgMeta ogMeta = ogMetaFetcher.refetch(resource.getLink());
         if (ogMeta.image() == null && ogMeta.description() == null) {
             return;
         }
-        resource.updateOg(
-                ogMeta.image() != null ? ogMeta.image() : resource.getOgImage(),
-                ogMeta.description() != null ? ogMeta.description() : resource.getOgDescription()
-        );
+        resourceOgUpdater.apply(resourceId, ogMeta, null);
     }
 
     /**
@@ -155,4 +176,20 @@ public class ResourceService {
         resource.getPost().delete();
         resourceRepository.delete(resource);
     }
+
+    private void enrichOgAfterCommit(Long resourceId, String link, String placeholderTitle) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // 그 사이 캐시에 들어왔거나 풀이 가득 차 future 가 이미 완료돼 있어도, 반영은 요청 스레드가 아닌 fetch 풀에서 한다
+                ogMetaFetcher.fetchAsync(link)
+                        .thenAcceptAsync(ogMeta -> resourceOgUpdater.apply(resourceId, ogMeta, placeholderTitle),
+                                ogMetaFetcher.callbackExecutor())
+                        .exceptionally(e -> {
+                            // best-effort 보강: 실패해도 자료는 OG 정보 없이 남고, 작성자가 refresh-og 로 다시 시도할 수 있다
+                            return null;
+                        });
+            }
+        });
+    }
 }
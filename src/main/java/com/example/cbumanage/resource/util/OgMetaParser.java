@@ -2,27 +2,45 @@ package com.example.cbumanage.resource.util;
 
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
  * 외부 URL에서 Open Graph 메타 태그를 파싱하는 유틸리티.
+ * 호출 스레드에서 바로 HTTP 요청을 보내므로, 요청 처리 경로에서는 캐시와 전용 풀을 거치는 OgMetaFetcher 를 사용합니다.
  */
 @Component
 public class OgMetaParser {
 
-    private static final int TIMEOUT_MS = 5000;
+    private final int timeoutMillis;
+    private final int maxBodyBytes;
 
-    public record OgMeta(String title, String image, String description) {}
+    public record OgMeta(String title, String image, String description) {
+
+        public static final OgMeta EMPTY = new OgMeta(null, null, null);
+
+        public boolean isEmpty() {
+            return title == null && image == null && description == null;
+        }
+    }
+
+    public OgMetaParser(@Value("${cbu.resource.og.timeout-ms:5000}") int timeoutMillis,
+                        @Value("${cbu.resource.og.max-body-bytes:524288}") int maxBodyBytes) {
+        this.timeoutMillis = timeoutMillis;
+        this.maxBodyBytes = maxBodyBytes;
+    }
 
     /**
      * 주어진 URL의 HTML에서 og:title, og:image, og:description을 파싱합니다.
+     * 응답 본문은 maxBodyBytes 까지만 읽으며, OG 태그는 보통 head 에 있으므로 그 뒤는 버려도 됩니다.
      * 파싱 실패 시 모든 필드가 null인 OgMeta를 반환합니다.
      */
     public OgMeta parse(String url) {
         try {
             Document doc = Jsoup.connect(url)
                     .userAgent("Mozilla/5.0 (compatible; CbuBot/1.0)")
-                    .timeout(TIMEOUT_MS)
+                    .timeout(timeoutMillis)
+                    .maxBodySize(maxBodyBytes)
                     .get();
 
             String title = doc.select("meta[property=og:title]").attr("content");
@@ -35,7 +53,7 @@ public class OgMetaParser {
                     description.isBlank() ? null : description
             );
         } catch (Exception e) {
-            return new OgMeta(null, null, null);
+            return OgMeta.EMPTY;
         }
     }
 }
@@ -2,26 +2,24 @@ package com.example.cbumanage.study.service;
 
 import com.example.cbumanage.group.service.GroupService;
 import com.example.cbumanage.post.dto.PostDTO;
+import com.example.cbumanage.global.common.ViewCountBuffer;
 import com.example.cbumanage.global.error.CustomException;
 import com.example.cbumanage.group.entity.Group;
 import com.example.cbumanage.post.entity.Post;
 import com.example.cbumanage.post.service.PostService;
 import com.example.cbumanage.study.entity.Study;
-import com.example.cbumanage.group.entity.enums.GroupMemberStatus;
 import com.example.cbumanage.group.entity.enums.GroupRecruitmentStatus;
 import com.example.cbumanage.user.entity.User;
 import com.example.cbumanage.user.repository.UserRepository;
-import com.example.cbumanage.group.repository.GroupMemberRepository;
-import com.example.cbumanage.group.repository.GroupRepository;
 import com.example.cbumanage.post.repository.PostRepository;
 import com.example.cbumanage.study.repository.StudyRepository;
 import com.example.cbumanage.global.error.ErrorCode;
 import com.example.cbumanage.post.util.PostMapper;
-import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -38,8 +36,7 @@ public class StudyService {
     private final PostMapper postMapper;
     private final PostService postService;
     private final GroupService groupService;
-    private final GroupMemberRepository groupMemberRepository;
-    private final GroupRepository groupRepository;
+    private final ViewCountBuffer viewCountBuffer;
 
     @Autowired
     public StudyService(StudyRepository studyRepository,
@@ -48,16 +45,14 @@ public class StudyService {
                         PostMapper postMapper,
                         PostService postService,
                         GroupService groupService,
-                        GroupMemberRepository groupMemberRepository,
-                        GroupRepository groupRepository) {
+                        ViewCountBuffer viewCountBuffer) {
         this.studyRepository = studyRepository;
         this.postRepository = postRepository;
         this.userRepository = userRepository;
         this.postMapper = postMapper;
         this.postService = postService;
         this.groupService = groupService;
-        this.groupMemberRepository = groupMemberRepository;
-        this.groupRepository = groupRepository;
+        this.viewCountBuffer = viewCountBuffer;
     }
 
     public Study createStudy(PostDTO.StudyCreateDTO req, Group group) {
@@ -69,10 +64,10 @@ public class StudyService {
     }
 
     // 스터디 상세 조회
-    @Transactional
+    @Transactional(readOnly = true)
     public PostDTO.StudyInfoDetailDTO getStudyByPostId(Long postId, Long userId) {
         Study study = getActiveStudy(postId);
-        study.getPost().upViewCount();
+        viewCountBuffer.increment(ViewCountBuffer.Target.POST, postId);
         boolean isLeader = userId != null && study.getPost().getAuthorId().equals(userId);
         Boolean hasApplied = groupService.hasAppliedToGroup(
                 study.getGroup() != null ? study.getGroup().getId() : null, userId);
@@ -81,7 +76,7 @@ public class StudyService {
         int active = 0;
         int max = study.getMaxMembers();
         if (study.getGroup() != null) {
-            active = groupRepository.countByGroupIdAndStatus(study.getGroup().getId(), GroupMemberStatus.ACTIVE);
+            active = study.getGroup().getActiveMemberCount();
             max = study.getGroup().getMaxActiveMembers();
         }
 
@@ -118,7 +113,7 @@ public class StudyService {
         int active = 0;
         int max = s.getMaxMembers();
         if (s.getGroup() != null) {
-            active = groupRepository.countByGroupIdAndStatus(s.getGroup().getId(), GroupMemberStatus.ACTIVE);
+            active = s.getGroup().getActiveMemberCount();
             max = s.getGroup().getMaxActiveMembers();
         }
         return postMapper.toStudyListDTO(s, author, active, max);
@@ -141,9 +136,7 @@ public class StudyService {
         }
 
         if (dto.getMaxMembers() != null) {
-            long activeCount = groupMemberRepository
-                    .findByGroupIdAndGroupMemberStatus(study.getGroup().getId(), GroupMemberStatus.ACTIVE)
-                    .size();
+            long activeCount = study.getGroup().getActiveMemberCount();
             if (dto.getMaxMembers() <= activeCount) {
                 throw new CustomException(ErrorCode.INVALID_REQUEST,
                         "이미 수락된 인원(" + activeCount + "명)보다 작거나 같은 값으로 변경할 수 없습니다.");
@@ -229,8 +222,7 @@ public class StudyService {
 
         // 최소 1명 이상 수락 확인 (팀장=ACTIVE 1명 이미 포함, 추가 ACTIVE 필요)
         Long groupId = study.getGroup().getId();
-        int activeCount = groupMemberRepository
-                .findByGroupIdAndGroupMemberStatus(groupId, GroupMemberStatus.ACTIVE).size();
+        int activeCount = study.getGroup().getActiveMemberCount();
         if (activeCount <= 1) {
             throw new CustomException(ErrorCode.INVALID_REQUEST, "최소 1명 이상의 수락된 멤버가 있어야 합니다.");
         }
@@ -61,10 +61,20 @@ public class LoginController {
 
     @DeleteMapping
     @ResponseStatus(HttpStatus.OK)
-    @Operation(summary = "로그아웃", description = "refreshToken을 무효화하고 인증 쿠키를 삭제합니다.")
-    public ApiResponse<Void> logout(Authentication authentication, HttpServletResponse response) {
+    @Operation(summary = "로그아웃", description = "현재 기기의 refreshToken을 무효화하고 인증 쿠키를 삭제합니다. 다른 기기의 로그인은 유지됩니다.")
+    public ApiResponse<Void> logout(Authentication authentication, HttpServletRequest request, HttpServletResponse response) {
         Long userId = Long.parseLong(authentication.getName());
-        loginService.logout(userId);
+        loginService.logout(userId, extractCookie(request, "refreshToken"));
+        clearTokenCookies(response);
+        return ApiResponse.success();
+    }
+
+    @DeleteMapping("/sessions")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "모든 기기에서 로그아웃", description = "사용자의 모든 기기에 발급된 refreshToken을 무효화하고 인증 쿠키를 삭제합니다.")
+    public ApiResponse<Void> logoutAll(Authentication authentication, HttpServletResponse response) {
+        Long userId = Long.parseLong(authentication.getName());
+        loginService.logoutAll(userId);
         clearTokenCookies(response);
         return ApiResponse.success();
     }
@@ -3,6 +3,7 @@ package com.example.cbumanage.user.repository;
 import com.example.cbumanage.user.entity.MemberStatus;
 import com.example.cbumanage.user.entity.Role;
 import com.example.cbumanage.user.entity.User;
+import jakarta.persistence.EntityNotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,9 +12,14 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -40,4 +46,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
               AND u.userId NOT IN (SELECT d.userId FROM Dues d WHERE d.term = :term)
             """)
     List<User> findAllWithoutDues(@Param("term") String term);
+
+    // 여러 회원을 IN 쿼리 한 번으로 조회해 userId → User 맵으로 돌려줍니다. 중복 id 는 한 번만 조회합니다.
+    default Map<Long, User> findAllByIdAsMap(Collection<Long> userIds) {
+        Set<Long> distinctIds = new HashSet<>(userIds);
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+        return findAllById(distinctIds).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+    }
+
+    // findAllByIdAsMap 결과에서 회원을 꺼냅니다. 없으면 EntityNotFoundException 을 던집니다.
+    static User requireUser(Map<Long, User> users, Long userId, String notFoundMessage) {
+        User user = users.get(userId);
+        if (user == null) {
+            throw new EntityNotFoundException(notFoundMessage);
+        }
+        return user;
+    }
 }
@@ -3,11 +3,12 @@ package com.example.cbumanage.user.service;
 import com.example.cbumanage.application.entity.MemberApplication;
 import com.example.cbumanage.application.entity.enums.ApplicationStatus;
 import com.example.cbumanage.application.repository.MemberApplicationRepository;
+import com.example.cbumanage.email.service.AuthCodeVerifier;
+import com.example.cbumanage.global.common.AuthenticatedUserCache;
 import com.example.cbumanage.global.common.JwtProvider;
 import com.example.cbumanage.global.common.TokenInfo;
 import com.example.cbumanage.global.error.BaseException;
 import com.example.cbumanage.global.error.ErrorCode;
-import com.example.cbumanage.global.util.RedisUtil;
 import com.example.cbumanage.user.dto.MyInfoResponse;
 import com.example.cbumanage.user.dto.PasswordChangeRequest;
 import com.example.cbumanage.user.dto.PasswordResetRequest;
@@ -34,17 +35,14 @@ import java.util.UUID;
 public class LoginService {
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
-    private final RedisUtil redisUtil;
+    private final AuthCodeVerifier authCodeVerifier;
     private final MemberApplicationRepository memberApplicationRepository;
-
-    private static final String REFRESH_KEY_PREFIX = "refresh:";
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Value("${cbu.login.salt}")
     private String salt;
 
-    @Value("${cbu.jwt.refreshExpireTime}")
-    private Long refreshExpireTime;
-
     @Transactional
     public void signUp(UserSignUpRequest request) {
         MemberApplication application = findAcceptedApplication(request.studentNumber(), request.nickname());
@@ -91,17 +89,15 @@ public class LoginService {
             throw new BaseException(ErrorCode.MEMBER_NOT_APPROVED);
         }
 
+        // 로그인마다 새 세션(token family)을 만들어 기기별 로그인을 유지합니다.
+        String sessionId = UUID.randomUUID().toString();
         TokenInfo tokenInfo = jwtProvider.createToken(
                 user.getUserUuid(),
                 String.valueOf(user.getStudentNumber()),
-                user.getRole()
-        );
-
-        redisUtil.setDataExpire(
-                REFRESH_KEY_PREFIX + user.getUserId(),
-                tokenInfo.refreshToken(),
-                refreshExpireTime / 1000
+                user.getRole(),
+                sessionId
         );
+        refreshTokenStore.createSession(user.getUserId(), sessionId, tokenInfo.refreshToken());
 
         return new LoginResult(tokenInfo, user.getUserId(), user.getName(), user.getEmail(), user.getRole().name());
     }
@@ -125,45 +121,78 @@ public class LoginService {
     }
 
     public TokenInfo refresh(String refreshToken) {
-        if (refreshToken == null || !jwtProvider.validateToken(refreshToken)) {
+        if (refreshToken == null) {
             throw new BaseException(ErrorCode.UNAUTHORIZED);
         }
 
-        Claims claims = jwtProvider.getClaims(refreshToken);
+        Claims claims = jwtProvider.parseClaims(refreshToken)
+                .orElseThrow(() -> new BaseException(ErrorCode.UNAUTHORIZED));
+        String sessionId = claims.get(JwtProvider.SESSION_CLAIM, String.class);
+        if (sessionId == null) {
+            throw new BaseException(ErrorCode.UNAUTHORIZED);
+        }
         UUID userUuid = UUID.fromString(claims.getSubject());
         User user = userRepository.findByUserUuidAndDeletedAtIsNull(userUuid)
                 .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
 
-        String storedToken = redisUtil.getData(REFRESH_KEY_PREFIX + user.getUserId());
-        if (storedToken == null || !storedToken.equals(refreshToken)) {
-            throw new BaseException(ErrorCode.UNAUTHORIZED);
-        }
-
         TokenInfo newToken = jwtProvider.createToken(
                 user.getUserUuid(),
                 String.valueOf(user.getStudentNumber()),
-                user.getRole()
-        );
-
-        redisUtil.setDataExpire(
-                REFRESH_KEY_PREFIX + user.getUserId(),
-                newToken.refreshToken(),
-                refreshExpireTime / 1000
+                user.getRole(),
+                sessionId
         );
 
+        // 검증과 교체를 한 번에 처리합니다. 이미 교체된 토큰이 다시 쓰이면 해당 세션은 폐기됩니다.
+        RefreshTokenStore.RotationResult result =
+                refreshTokenStore.rotate(user.getUserId(), sessionId, refreshToken, newToken.refreshToken());
+        if (result != RefreshTokenStore.RotationResult.ROTATED) {
+            throw new BaseException(ErrorCode.UNAUTHORIZED);
+        }
         return newToken;
     }
 
-    public void logout(Long userId) {
-        redisUtil.deleteData(REFRESH_KEY_PREFIX + userId);
+    /**
+     * 현재 기기의 세션만 종료합니다. refresh token 으로 세션을 알 수 없으면 모든 세션을 종료합니다.
+     */
+    public void logout(Long userId, String refreshToken) {
+        String sessionId = sessionIdOf(userId, refreshToken);
+        if (sessionId != null) {
+            refreshTokenStore.revoke(userId, sessionId);
+        } else {
+            refreshTokenStore.revokeAll(userId);
+        }
+        authenticatedUserCache.evictByUserId(userId);
+    }
+
+    public void logoutAll(Long userId) {
+        refreshTokenStore.revokeAll(userId);
+        authenticatedUserCache.evictByUserId(userId);
+    }
+
+    // 만료된 refresh token 이라도 로그아웃할 세션을 찾는 데는 사용할 수 있습니다. 다른 사용자의 토큰이면 무시합니다.
+    private String sessionIdOf(Long userId, String refreshToken) {
+        if (refreshToken == null) {
+            return null;
+        }
+        Claims claims;
+        try {
+            claims = jwtProvider.getClaimsIgnoreExpiration(refreshToken);
+        } catch (Exception e) {
+            return null;
+        }
+        boolean ownToken = userRepository.findByUserIdAndDeletedAtIsNull(userId)
+                .map(user -> user.getUserUuid().toString().equals(claims.getSubject()))
+                .orElse(false);
+        return ownToken ? claims.get(JwtProvider.SESSION_CLAIM, String.class) : null;
     }
 
     @Transactional
     public void deleteUser(Long userId) {
         User user = userRepository.findByUserIdAndDeletedAtIsNull(userId)
                 .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
-        redisUtil.deleteData(REFRESH_KEY_PREFIX + userId);
+        refreshTokenStore.revokeAll(userId);
         user.delete();
+        authenticatedUserCache.evictAfterCommit(user.getUserUuid());
     }
 
     @Transactional
@@ -176,7 +205,8 @@ public class LoginService {
         }
 
         user.changePassword(hashPassword(request.newPassword()));
-        redisUtil.deleteData(REFRESH_KEY_PREFIX + userId);
+        refreshTokenStore.revokeAll(userId);
+        authenticatedUserCache.evictAfterCommit(user.getUserUuid());
     }
 
     @Transactional
@@ -193,14 +223,14 @@ public class LoginService {
             throw new BaseException(ErrorCode.UNAUTHORIZED);
         }
 
-        String storedAuthCode = redisUtil.getData(request.email());
-        if (storedAuthCode == null || !storedAuthCode.equals(request.authCode())) {
+        // 확인과 소모를 한 번의 스크립트로 처리하므로 같은 인증번호로 동시에 두 번 재설정할 수 없습니다.
+        // 잘못 입력하면 시도 횟수 안에서 다시 입력할 수 있습니다.
+        if (authCodeVerifier.consume(request.email(), request.authCode()) != AuthCodeVerifier.Result.MATCHED) {
             throw new BaseException(ErrorCode.UNAUTHORIZED);
         }
 
         user.changePassword(hashPassword(request.newPassword()));
-        redisUtil.deleteData(REFRESH_KEY_PREFIX + user.getUserId());
-        redisUtil.deleteData(request.email());
+        refreshTokenStore.revokeAll(user.getUserId());
     }
 
     private String hashPassword(String password) {
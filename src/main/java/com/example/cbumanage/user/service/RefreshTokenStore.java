@@ -0,0 +1,174 @@
+package com.example.cbumanage.user.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 기기(로그인)별 refresh token 을 token family 단위로 Redis 에 저장합니다.
+ * <p>
+ * 사용자마다 {@code refresh:{userId}:sessions} 집합에 family id 를 두고, family 마다
+ * {@code refresh:{userId}:family:<id>} 해시에 현재 토큰의 해시를 보관합니다.
+ * 발급/회전/폐기는 각각 Lua 스크립트 한 번으로 처리하므로 한 번의 왕복으로 원자적으로 끝납니다.
+ * 이미 회전된 토큰이 다시 제시되면 탈취로 보고 해당 family 를 폐기합니다.
+ * 키에 userId 해시 태그를 붙여 한 사용자의 키는 항상 같은 슬롯에 놓입니다.
+ */
+@Component
+public class RefreshTokenStore {
+
+    public enum RotationResult {
+        ROTATED,
+        // 직전 토큰이 유예 시간 안에 다시 제시됨 (동시 갱신 요청). family 는 유지합니다.
+        CONCURRENT,
+        // 이미 회전된 토큰이 재사용됨. family 를 폐기했습니다.
+        REUSED,
+        NOT_FOUND
+    }
+
+    // KEYS[1]=세션 집합, KEYS[2]=새 family 해시
+    // ARGV[1]=family id, ARGV[2]=토큰 해시, ARGV[3]=TTL(초), ARGV[4]=현재 시각(ms), ARGV[5]=최대 세션 수, ARGV[6]=family 키 prefix
+    private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>("""
+            local live = {}
+            for _, fid in ipairs(redis.call('SMEMBERS', KEYS[1])) do
+              local createdAt = redis.call('HGET', ARGV[6] .. fid, 'createdAt')
+              if createdAt then
+                live[#live + 1] = {fid, tonumber(createdAt)}
+              else
+                redis.call('SREM', KEYS[1], fid)
+              end
+            end
+            table.sort(live, function(a, b) return a[2] < b[2] end)
+            for i = 1, #live - tonumber(ARGV[5]) + 1 do
+              redis.call('DEL', ARGV[6] .. live[i][1])
+              redis.call('SREM', KEYS[1], live[i][1])
+            end
+            redis.call('HSET', KEYS[2], 'current', ARGV[2], 'createdAt', ARGV[4])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            redis.call('SADD', KEYS[1], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=family 해시, KEYS[2]=세션 집합
+    // ARGV[1]=제시된 토큰 해시, ARGV[2]=새 토큰 해시, ARGV[3]=TTL(초), ARGV[4]=현재 시각(ms), ARGV[5]=유예(ms), ARGV[6]=family id
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local family = redis.call('HMGET', KEYS[1], 'current', 'previous', 'rotatedAt')
+            if not family[1] then
+              redis.call('SREM', KEYS[2], ARGV[6])
+              return 0
+            end
+            if family[1] == ARGV[1] then
+              redis.call('HSET', KEYS[1], 'current', ARGV[2], 'previous', ARGV[1], 'rotatedAt', ARGV[4])
+              redis.call('EXPIRE', KEYS[1], ARGV[3])
+              redis.call('EXPIRE', KEYS[2], ARGV[3])
+              return 1
+            end
+            if family[2] == ARGV[1] and tonumber(ARGV[4]) - tonumber(family[3]) <= tonumber(ARGV[5]) then
+              return 2
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[2], ARGV[6])
+            return -1
+            """, Long.class);
+
+    // KEYS[1]=family 해시, KEYS[2]=세션 집합, ARGV[1]=family id
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            return redis.call('SREM', KEYS[2], ARGV[1])
+            """, Long.class);
+
+    // KEYS[1]=세션 집합, ARGV[1]=family 키 prefix
+    private static final RedisScript<Long> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>("""
+            local families = redis.call('SMEMBERS', KEYS[1])
+            for _, fid in ipairs(families) do
+              redis.call('DEL', ARGV[1] .. fid)
+            end
+            redis.call('DEL', KEYS[1])
+            return #families
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlSeconds;
+    private final int maxSessions;
+    private final long reuseGraceMillis;
+
+    public RefreshTokenStore(StringRedisTemplate redisTemplate,
+                             @Value("${cbu.jwt.refreshExpireTime}") long refreshExpireTime,
+                             @Value("${cbu.auth.refresh.max-sessions:10}") int maxSessions,
+                             @Value("${cbu.auth.refresh.reuse-grace-seconds:10}") long reuseGraceSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = refreshExpireTime / 1000;
+        this.maxSessions = maxSessions;
+        this.reuseGraceMillis = reuseGraceSeconds * 1000;
+    }
+
+    /**
+     * 새 로그인 세션(family)을 등록합니다. 최대 세션 수를 넘으면 가장 오래된 세션부터 폐기합니다.
+     */
+    public void createSession(Long userId, String familyId, String refreshToken) {
+        redisTemplate.execute(CREATE_SCRIPT,
+                List.of(sessionsKey(userId), familyKey(userId, familyId)),
+                familyId, hash(refreshToken), String.valueOf(ttlSeconds),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(maxSessions), familyKeyPrefix(userId));
+    }
+
+    /**
+     * 제시된 토큰이 family 의 현재 토큰이면 새 토큰으로 교체합니다.
+     */
+    public RotationResult rotate(Long userId, String familyId, String presentedToken, String newToken) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(familyKey(userId, familyId), sessionsKey(userId)),
+                hash(presentedToken), hash(newToken), String.valueOf(ttlSeconds),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(reuseGraceMillis), familyId);
+        if (result == null) {
+            return RotationResult.NOT_FOUND;
+        }
+        return switch (result.intValue()) {
+            case 1 -> RotationResult.ROTATED;
+            case 2 -> RotationResult.CONCURRENT;
+            case -1 -> RotationResult.REUSED;
+            default -> RotationResult.NOT_FOUND;
+        };
+    }
+
+    public void revoke(Long userId, String familyId) {
+        redisTemplate.execute(REVOKE_SCRIPT,
+                List.of(familyKey(userId, familyId), sessionsKey(userId)),
+                familyId);
+    }
+
+    // 모든 기기에서 로그아웃. 세션 수와 관계없이 스크립트 한 번으로 처리합니다.
+    public void revokeAll(Long userId) {
+        redisTemplate.execute(REVOKE_ALL_SCRIPT, List.of(sessionsKey(userId)), familyKeyPrefix(userId));
+    }
+
+    private static String sessionsKey(Long userId) {
+        return "refresh:{" + userId + "}:sessions";
+    }
+
+    private static String familyKeyPrefix(Long userId) {
+        return "refresh:{" + userId + "}:family:";
+    }
+
+    private static String familyKey(Long userId, String familyId) {
+        return familyKeyPrefix(userId) + familyId;
+    }
+
+    // 토큰 원문 대신 해시만 저장합니다.
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
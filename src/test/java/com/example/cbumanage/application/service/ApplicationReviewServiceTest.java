@@ -2,13 +2,18 @@ package com.example.cbumanage.application.service;
 
 import com.example.cbumanage.application.dto.AdminApplicationListResponse;
 import com.example.cbumanage.application.dto.ApplicationDetailResponse;
+import com.example.cbumanage.application.dto.ApplicationFinalizeProgressResponse;
+import com.example.cbumanage.application.dto.ApplicationFinalizeRequest;
 import com.example.cbumanage.application.entity.ApplicationVote;
 import com.example.cbumanage.application.entity.MemberApplication;
 import com.example.cbumanage.application.entity.Recruitment;
 import com.example.cbumanage.application.entity.enums.AcademicStatus;
 import com.example.cbumanage.application.entity.enums.ApplicationField;
 import com.example.cbumanage.application.entity.enums.ApplicationReview;
+import com.example.cbumanage.application.entity.enums.ApplicationStatus;
 import com.example.cbumanage.application.entity.enums.FinalDecision;
+import com.example.cbumanage.application.entity.enums.MailNotiType;
+import com.example.cbumanage.application.entity.enums.NotificationStatus;
 import com.example.cbumanage.application.entity.enums.RefSource;
 import com.example.cbumanage.application.entity.enums.VoteResult;
 import com.example.cbumanage.application.repository.ApplicationAnswerRepository;
@@ -17,11 +22,14 @@ import com.example.cbumanage.application.repository.ApplicationPortfolioUrlRepos
 import com.example.cbumanage.application.repository.ApplicationVoteRepository;
 import com.example.cbumanage.application.repository.MemberApplicationRepository;
 import com.example.cbumanage.application.repository.RecruitmentRepository;
-import com.example.cbumanage.email.service.EmailService;
+import com.example.cbumanage.email.service.MailOutboxService;
+import com.example.cbumanage.global.error.BaseException;
+import com.example.cbumanage.global.error.ErrorCode;
 import com.example.cbumanage.user.entity.Role;
 import com.example.cbumanage.user.entity.User;
 import com.example.cbumanage.user.repository.UserRepository;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -30,7 +38,13 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ApplicationReviewServiceTest {
@@ -41,6 +55,8 @@ class ApplicationReviewServiceTest {
     private final ApplicationAnswerRepository applicationAnswerRepository = mock(ApplicationAnswerRepository.class);
     private final ApplicationPortfolioUrlRepository applicationPortfolioUrlRepository = mock(ApplicationPortfolioUrlRepository.class);
     private final UserRepository userRepository = mock(UserRepository.class);
+    private final MailOutboxService mailOutboxService = mock(MailOutboxService.class);
+    private final ApplicationNotificationRepository applicationNotificationRepository = mock(ApplicationNotificationRepository.class);
     private final ApplicationReviewService applicationReviewService = new ApplicationReviewService(
             recruitmentRepository,
             memberApplicationRepository,
@@ -48,8 +64,8 @@ class ApplicationReviewServiceTest {
             applicationAnswerRepository,
             applicationPortfolioUrlRepository,
             userRepository,
-            mock(EmailService.class),
-            mock(ApplicationNotificationRepository.class)
+            mailOutboxService,
+            applicationNotificationRepository
     );
 
     @Test
@@ -133,6 +149,89 @@ class ApplicationReviewServiceTest {
         assertThat(item.note()).isEqualTo("39, 40기에 지원");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void finalizeAppliesEachDecisionWithOneUpdateAndEnqueuesMailsInOneBatch() {
+        Recruitment recruitment = Recruitment.open(40L, 1);
+        List<MemberApplication> targets = List.of(application(10L, 40L), application(11L, 40L), application(12L, 40L));
+        stubFinalize(recruitment, targets);
+        when(memberApplicationRepository.updateStatusForDecision(
+                eq(List.of(10L, 12L)), eq(ApplicationStatus.SUBMITTED), eq(ApplicationStatus.ADMIN_ACCEPTED), eq(1L), any()))
+                .thenReturn(2);
+        when(memberApplicationRepository.updateStatusForDecision(
+                eq(List.of(11L)), eq(ApplicationStatus.SUBMITTED), eq(ApplicationStatus.ADMIN_REJECTED), eq(1L), any()))
+                .thenReturn(1);
+
+        applicationReviewService.finalizeDecisions(recruitment.getRecruitmentUuid(), 1L, new ApplicationFinalizeRequest(List.of(
+                new ApplicationFinalizeRequest.Item(targets.get(0).getApplicationUuid(), FinalDecision.ACCEPT),
+                new ApplicationFinalizeRequest.Item(targets.get(1).getApplicationUuid(), FinalDecision.REJECT),
+                new ApplicationFinalizeRequest.Item(targets.get(2).getApplicationUuid(), FinalDecision.ACCEPT))));
+
+        ArgumentCaptor<List<MailOutboxService.ApplicationMail>> mails = ArgumentCaptor.forClass(List.class);
+        verify(mailOutboxService).enqueueAll(mails.capture());
+        assertThat(mails.getValue())
+                .extracting(MailOutboxService.ApplicationMail::applicationId, MailOutboxService.ApplicationMail::type)
+                .containsExactly(
+                        tuple(10L, MailNotiType.ACCEPTED),
+                        tuple(12L, MailNotiType.ACCEPTED),
+                        tuple(11L, MailNotiType.REJECTED));
+        verify(mailOutboxService, never()).enqueue(any(), any(), any(), any());
+    }
+
+    @Test
+    void finalizeRollsBackWhenApplicationChangedAfterValidation() {
+        Recruitment recruitment = Recruitment.open(40L, 1);
+        List<MemberApplication> targets = List.of(application(10L, 40L), application(11L, 40L));
+        stubFinalize(recruitment, targets);
+        when(memberApplicationRepository.updateStatusForDecision(any(), any(), any(), any(), any())).thenReturn(1);
+
+        assertThatThrownBy(() -> applicationReviewService.finalizeDecisions(
+                recruitment.getRecruitmentUuid(), 1L, new ApplicationFinalizeRequest(List.of(
+                        new ApplicationFinalizeRequest.Item(targets.get(0).getApplicationUuid(), FinalDecision.ACCEPT),
+                        new ApplicationFinalizeRequest.Item(targets.get(1).getApplicationUuid(), FinalDecision.ACCEPT)))))
+                .isInstanceOfSatisfying(BaseException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_APPLICATION_STATUS));
+        verify(mailOutboxService, never()).enqueueAll(any());
+    }
+
+    @Test
+    void finalizeProgressCombinesDecisionAndMailCounts() {
+        Recruitment recruitment = Recruitment.open(40L, 1);
+        when(recruitmentRepository.findByRecruitmentUuid(recruitment.getRecruitmentUuid()))
+                .thenReturn(Optional.of(recruitment));
+        when(memberApplicationRepository.countByStatusGroupedForGeneration(40L)).thenReturn(List.of(
+                new Object[]{ApplicationStatus.ADMIN_ACCEPTED, 3L},
+                new Object[]{ApplicationStatus.COMPLETED, 1L},
+                new Object[]{ApplicationStatus.ADMIN_REJECTED, 2L}));
+        when(applicationNotificationRepository.countByStatusGroupedForGeneration(
+                40L, List.of(MailNotiType.ACCEPTED, MailNotiType.REJECTED))).thenReturn(List.of(
+                new Object[]{NotificationStatus.PENDING, 2L},
+                new Object[]{NotificationStatus.SENT, 4L}));
+
+        ApplicationFinalizeProgressResponse progress =
+                applicationReviewService.getFinalizeProgress(recruitment.getRecruitmentUuid());
+
+        assertThat(progress.submitted()).isZero();
+        assertThat(progress.accepted()).isEqualTo(4);
+        assertThat(progress.rejected()).isEqualTo(2);
+        assertThat(progress.mailPending()).isEqualTo(2);
+        assertThat(progress.mailSent()).isEqualTo(4);
+        assertThat(progress.mailFailed()).isZero();
+        assertThat(progress.completed()).isFalse();
+    }
+
+    private void stubFinalize(Recruitment recruitment, List<MemberApplication> targets) {
+        when(userRepository.findByUserIdAndDeletedAtIsNull(1L))
+                .thenReturn(Optional.of(voter(1L, "회장", Role.ROLE_PRESIDENT)));
+        when(recruitmentRepository.findByRecruitmentUuid(recruitment.getRecruitmentUuid()))
+                .thenReturn(Optional.of(recruitment));
+        when(memberApplicationRepository.findByGenerationAndStatusIn(40L, List.of(ApplicationStatus.SUBMITTED)))
+                .thenReturn(targets);
+        List<Long> ids = targets.stream().map(MemberApplication::getId).toList();
+        when(applicationVoteRepository.countByApplicationIdsGroupByDecision(ids))
+                .thenReturn(ids.stream().map(id -> new Object[]{id, VoteResult.PASS, 1L}).toList());
+    }
+
     private void stubDetail(MemberApplication application, List<User> voters,
                             List<ApplicationVote> votes, int voterCount) {
         when(memberApplicationRepository.findByApplicationUuid(application.getApplicationUuid()))
@@ -0,0 +1,123 @@
+package com.example.cbumanage.comment.service;
+
+import com.example.cbumanage.comment.dto.CommentDTO;
+import com.example.cbumanage.comment.entity.Comment;
+import com.example.cbumanage.comment.repository.CommentRepository;
+import com.example.cbumanage.comment.util.CommentMapper;
+import com.example.cbumanage.freeboard.repository.PostFreeboardRepository;
+import com.example.cbumanage.global.error.BaseException;
+import com.example.cbumanage.post.entity.Post;
+import com.example.cbumanage.post.repository.PostRepository;
+import com.example.cbumanage.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.cbumanage.user.entity.UserFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommentServiceTest {
+
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CommentService commentService = new CommentService(
+            commentRepository,
+            new CommentMapper(userRepository),
+            postRepository,
+            mock(PostFreeboardRepository.class),
+            userRepository
+    );
+
+    @BeforeEach
+    void setUp() {
+        // 매퍼는 저장소의 default 메서드로 작성자를 묶어 조회하므로 실제 구현을 태우고 findAllById 만 스텁합니다
+        when(userRepository.findAllByIdAsMap(anyCollection())).thenCallRealMethod();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getCommentsResolvesAuthorsOnceAndOrdersRepliesUnderTheirParent() {
+        Post post = Post.create(1L, "제목", "내용", 1);
+        ReflectionTestUtils.setField(post, "id", 100L);
+        Comment first = comment(1L, post, 11L, null);
+        Comment second = comment(2L, post, 12L, null);
+        Comment replyToFirst = comment(3L, post, 12L, first);
+        Comment nestedReply = comment(4L, post, 11L, replyToFirst);
+        when(postRepository.findById(100L)).thenReturn(Optional.of(post));
+        when(commentRepository.findByPostId(100L)).thenReturn(List.of(first, second, replyToFirst, nestedReply));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(user(11L), user(12L)));
+
+        List<CommentDTO.CommentInfoDTO> result = commentService.getComments(100L);
+
+        assertThat(result).extracting(CommentDTO.CommentInfoDTO::commentId).containsExactly(1L, 3L, 4L, 2L);
+        assertThat(result).extracting(CommentDTO.CommentInfoDTO::parentCommentId).containsExactly(null, 1L, 3L, null);
+        // 답글은 부모 아래로 모이되, 작성자는 댓글마다 자기 것이 붙는다
+        assertThat(result).extracting(CommentDTO.CommentInfoDTO::userName)
+                .containsExactly("회원11", "회원12", "회원11", "회원12");
+        ArgumentCaptor<Iterable<Long>> authorIds = ArgumentCaptor.forClass(Iterable.class);
+        verify(userRepository).findAllById(authorIds.capture());
+        assertThat(authorIds.getValue()).containsExactlyInAnyOrder(11L, 12L);
+    }
+
+    @Test
+    void getCommentPageReturnsRootsWithReplyCountsInlineRepliesAndNextCursor() {
+        Post post = Post.create(1L, "제목", "내용", 1);
+        ReflectionTestUtils.setField(post, "id", 100L);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 1, 12, 0);
+        Comment first = comment(1L, post, 11L, null);
+        Comment second = comment(2L, post, 12L, null);
+        Comment reply = comment(3L, post, 12L, first);
+        ReflectionTestUtils.setField(second, "createdAt", createdAt);
+        PageRequest pageable = PageRequest.of(0, 2);
+        List<Object[]> replyCounts = new ArrayList<>();
+        replyCounts.add(new Object[]{1L, 5L});
+        when(postRepository.existsById(100L)).thenReturn(true);
+        when(commentRepository.findRootsByPostId(100L, pageable))
+                .thenReturn(new SliceImpl<>(List.of(first, second), pageable, true));
+        when(commentRepository.countRepliesGroupByParentIds(List.of(1L, 2L))).thenReturn(replyCounts);
+        when(commentRepository.findFirstReplyIdsByParentIds(List.of(1L, 2L), 3)).thenReturn(List.of(3L));
+        when(commentRepository.findAllById(List.of(3L))).thenReturn(List.of(reply));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(user(11L), user(12L)));
+
+        CommentDTO.CommentCursorPageDTO<CommentDTO.CommentThreadDTO> page =
+                commentService.getCommentPage(100L, null, null, 2);
+
+        assertThat(page.items()).hasSize(2);
+        assertThat(page.items().get(0).replyCount()).isEqualTo(5L);
+        assertThat(page.items().get(0).replies()).extracting(CommentDTO.CommentInfoDTO::commentId).containsExactly(3L);
+        assertThat(page.items().get(1).replyCount()).isZero();
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursorCreatedAt()).isEqualTo(createdAt);
+        assertThat(page.nextCursorId()).isEqualTo(2L);
+        assertThat(page.items().get(0).replies()).extracting(CommentDTO.CommentInfoDTO::userName).containsExactly("회원12");
+    }
+
+    @Test
+    void getCommentPageRejectsHalfCursor() {
+        when(postRepository.existsById(100L)).thenReturn(true);
+
+        assertThatThrownBy(() -> commentService.getCommentPage(100L, LocalDateTime.now(), null, 20))
+                .isInstanceOf(BaseException.class);
+    }
+
+    private static Comment comment(Long commentId, Post post, Long userId, Comment parent) {
+        Comment comment = new Comment(post, userId, parent, "댓글" + commentId);
+        ReflectionTestUtils.setField(comment, "id", commentId);
+        return comment;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.cbumanage.email.service;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthCodeVerifierTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String ATTEMPTS_KEY = "authCodeAttempts:" + EMAIL;
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final AuthCodeVerifier authCodeVerifier = new AuthCodeVerifier(redisTemplate, 5);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void consumeSendsOneScriptCallThatDeletesOnMatch() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(EMAIL, ATTEMPTS_KEY)), any(Object[].class)))
+                .thenReturn(1L);
+
+        assertThat(authCodeVerifier.consume(EMAIL, "123456")).isEqualTo(AuthCodeVerifier.Result.MATCHED);
+
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of(EMAIL, ATTEMPTS_KEY)), args.capture());
+        assertThat(args.getValue()).containsExactly("123456", "5", "600", "1");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void verifyDoesNotConsumeOnMatch() {
+        when(redisTemplate.execute(any(RedisScript.class), any(List.class), any(Object[].class))).thenReturn(1L);
+
+        assertThat(authCodeVerifier.verify(EMAIL, "123456")).isEqualTo(AuthCodeVerifier.Result.MATCHED);
+
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(any(RedisScript.class), any(List.class), args.capture());
+        assertThat(args.getValue()).endsWith("0");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void scriptResultsMapToVerificationResults() {
+        when(redisTemplate.execute(any(RedisScript.class), any(List.class), any(Object[].class)))
+                .thenReturn(2L, -1L, 0L, null);
+
+        assertThat(authCodeVerifier.consume(EMAIL, "000000")).isEqualTo(AuthCodeVerifier.Result.MISMATCHED);
+        assertThat(authCodeVerifier.consume(EMAIL, "000000")).isEqualTo(AuthCodeVerifier.Result.LOCKED);
+        // 다른 요청이 먼저 소모한 경우
+        assertThat(authCodeVerifier.consume(EMAIL, "123456")).isEqualTo(AuthCodeVerifier.Result.EXPIRED);
+        assertThat(authCodeVerifier.consume(EMAIL, "123456")).isEqualTo(AuthCodeVerifier.Result.EXPIRED);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void issueStoresCodeAndResetsAttemptsInOnePipeline() {
+        authCodeVerifier.issue(EMAIL, "654321");
+
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate, times(1)).executePipelined(callback.capture());
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        callback.getValue().doInRedis(connection);
+        verify(connection).setEx(EMAIL, AuthCodeVerifier.AUTH_CODE_TTL_SECONDS, "654321");
+        verify(connection).del(ATTEMPTS_KEY);
+    }
+}
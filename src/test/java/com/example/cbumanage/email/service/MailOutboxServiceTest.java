@@ -0,0 +1,98 @@
+package com.example.cbumanage.email.service;
+
+import com.example.cbumanage.application.entity.ApplicationNotification;
+import com.example.cbumanage.application.entity.MemberApplication;
+import com.example.cbumanage.application.entity.enums.MailNotiType;
+import com.example.cbumanage.application.entity.enums.NotificationStatus;
+import com.example.cbumanage.application.repository.ApplicationNotificationRepository;
+import com.example.cbumanage.application.repository.MemberApplicationRepository;
+import com.example.cbumanage.email.entity.MailOutbox;
+import com.example.cbumanage.email.entity.enums.MailOutboxStatus;
+import com.example.cbumanage.email.repository.MailOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MailOutboxServiceTest {
+
+    private final MailOutboxRepository mailOutboxRepository = mock(MailOutboxRepository.class);
+    private final ApplicationNotificationRepository applicationNotificationRepository = mock(ApplicationNotificationRepository.class);
+    private final MemberApplicationRepository memberApplicationRepository = mock(MemberApplicationRepository.class);
+    private final MailOutboxService mailOutboxService = new MailOutboxService(
+            mailOutboxRepository,
+            applicationNotificationRepository,
+            memberApplicationRepository,
+            mock(JdbcTemplate.class)
+    );
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(mailOutboxService, "maxAttempts", 2);
+        ReflectionTestUtils.setField(mailOutboxService, "backoffBaseSeconds", 30L);
+        ReflectionTestUtils.setField(mailOutboxService, "backoffMaxSeconds", 3600L);
+    }
+
+    @Test
+    void successfulDispatchMarksNotificationSentAndApplicationNotified() {
+        ApplicationNotification notification = notification(7L, 10L);
+        MailOutbox mail = outbox(1L, 7L, MailNotiType.ACCEPTED);
+        MemberApplication application = mock(MemberApplication.class);
+        when(mailOutboxRepository.findAllById(List.of(1L))).thenReturn(List.of(mail));
+        when(applicationNotificationRepository.findAllById(List.of(7L))).thenReturn(List.of(notification));
+        when(memberApplicationRepository.findAllById(List.of(10L))).thenReturn(List.of(application));
+
+        mailOutboxService.recordResults(List.of(1L), Map.of());
+
+        assertThat(mail.getStatus()).isEqualTo(MailOutboxStatus.SENT);
+        assertThat(notification.getStatus()).isEqualTo(NotificationStatus.SENT);
+        verify(application).markNotified();
+    }
+
+    @Test
+    void failedDispatchRetriesWithBackoffThenFailsAfterMaxAttempts() {
+        ApplicationNotification notification = notification(7L, 10L);
+        MailOutbox mail = outbox(1L, 7L, MailNotiType.REJECTED);
+        when(mailOutboxRepository.findAllById(List.of(1L))).thenReturn(List.of(mail));
+        when(applicationNotificationRepository.findAllById(List.of(7L))).thenReturn(List.of(notification));
+
+        LocalDateTime before = LocalDateTime.now();
+        mailOutboxService.recordResults(List.of(1L), Map.of(1L, "smtp timeout"));
+
+        assertThat(mail.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(mail.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(30));
+        assertThat(notification.getStatus()).isEqualTo(NotificationStatus.PENDING);
+        assertThat(notification.getErrorMessage()).isEqualTo("smtp timeout");
+
+        mailOutboxService.recordResults(List.of(1L), Map.of(1L, "smtp timeout"));
+
+        assertThat(mail.getStatus()).isEqualTo(MailOutboxStatus.FAILED);
+        assertThat(mail.getAttemptCount()).isEqualTo(2);
+        assertThat(notification.getStatus()).isEqualTo(NotificationStatus.FAILED);
+        verify(memberApplicationRepository, never()).findAllById(any());
+    }
+
+    private ApplicationNotification notification(Long id, Long applicationId) {
+        ApplicationNotification notification = ApplicationNotification.pending(applicationId, "applicant@example.com",
+                MailNotiType.ACCEPTED);
+        ReflectionTestUtils.setField(notification, "id", id);
+        return notification;
+    }
+
+    private MailOutbox outbox(Long id, Long notificationId, MailNotiType type) {
+        MailOutbox mail = MailOutbox.pending(notificationId, type, "applicant@example.com", "지원자");
+        ReflectionTestUtils.setField(mail, "id", id);
+        return mail;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.cbumanage.gathering.service;
+
+import com.example.cbumanage.gathering.dto.GatheringDTO;
+import com.example.cbumanage.gathering.entity.Gathering;
+import com.example.cbumanage.gathering.entity.GatheringAttendanceCount;
+import com.example.cbumanage.gathering.entity.enums.AttendanceStatus;
+import com.example.cbumanage.gathering.entity.enums.GatheringType;
+import com.example.cbumanage.gathering.repository.GatheringAttendanceCountRepository;
+import com.example.cbumanage.gathering.repository.GatheringAttendanceRepository;
+import com.example.cbumanage.gathering.repository.GatheringRepository;
+import com.example.cbumanage.gathering.util.GatheringMapper;
+import com.example.cbumanage.global.common.ViewCountBuffer;
+import com.example.cbumanage.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GatheringServiceTest {
+
+    private final GatheringRepository gatheringRepository = mock(GatheringRepository.class);
+    private final GatheringAttendanceRepository attendanceRepository = mock(GatheringAttendanceRepository.class);
+    private final GatheringAttendanceCountRepository attendanceCountRepository = mock(GatheringAttendanceCountRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final GatheringService gatheringService = new GatheringService(
+            gatheringRepository,
+            attendanceRepository,
+            attendanceCountRepository,
+            userRepository,
+            new GatheringMapper(),
+            mock(ViewCountBuffer.class)
+    );
+
+    @Test
+    void getGatheringsFillsMissingCountersFromGroupedCountsPerGathering() {
+        PageRequest pageable = PageRequest.of(0, 20);
+        when(gatheringRepository.findByIsDeletedFalse(pageable))
+                .thenReturn(new SliceImpl<>(List.of(gathering(1L), gathering(2L), gathering(3L)), pageable, false));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of());
+        // 1번은 카운터 행이 있고, 2·3번은 reconcile 전이라 GROUP BY 집계로 보충한다
+        when(attendanceCountRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(counter(1L, 5, 1, 2)));
+        when(attendanceRepository.countByGatheringIdsGroupByStatus(List.of(2L, 3L))).thenReturn(List.of(
+                new Object[]{2L, AttendanceStatus.ATTENDING, 4L},
+                new Object[]{2L, AttendanceStatus.NOT_RESPONDED, 3L},
+                new Object[]{2L, AttendanceStatus.NOT_ATTENDING, 1L}
+        ));
+        when(attendanceRepository.findStatusesByGatheringIdsAndMemberId(anyList(), anyLong()))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, AttendanceStatus.ATTENDING}));
+
+        Slice<GatheringDTO.GatheringResponse> result = gatheringService.getGatherings(9L, pageable);
+
+        List<GatheringDTO.GatheringResponse> content = result.getContent();
+        assertThat(content).extracting(GatheringDTO.GatheringResponse::id).containsExactly(1L, 2L, 3L);
+        assertThat(content.get(0).summary()).isEqualTo(summary(5, 1, 2));
+        assertThat(content.get(1).summary()).isEqualTo(summary(4, 1, 3));
+        assertThat(content.get(2).summary()).isEqualTo(summary(0, 0, 0));
+        assertThat(content).extracting(GatheringDTO.GatheringResponse::myStatus)
+                .containsExactly(null, AttendanceStatus.ATTENDING, null);
+    }
+
+    private static Gathering gathering(Long id) {
+        Gathering gathering = Gathering.create("모임" + id, GatheringType.DINING, "", LocalDateTime.now().plusDays(id),
+                "장소", null, true, 1L);
+        ReflectionTestUtils.setField(gathering, "id", id);
+        return gathering;
+    }
+
+    private static GatheringAttendanceCount counter(Long gatheringId, long attending, long notAttending, long unanswered) {
+        GatheringAttendanceCount count = BeanUtils.instantiateClass(GatheringAttendanceCount.class);
+        ReflectionTestUtils.setField(count, "gatheringId", gatheringId);
+        ReflectionTestUtils.setField(count, "attending", attending);
+        ReflectionTestUtils.setField(count, "notAttending", notAttending);
+        ReflectionTestUtils.setField(count, "unanswered", unanswered);
+        return count;
+    }
+
+    private static GatheringDTO.AttendanceSummary summary(long attending, long notAttending, long unanswered) {
+        return GatheringDTO.AttendanceSummary.builder()
+                .attending(attending)
+                .notAttending(notAttending)
+                .unanswered(unanswered)
+                .total(attending + notAttending + unanswered)
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.cbumanage.global.common;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthenticatedUserCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<UUID, Optional<Long>> loader = uuid -> {
+        loads.incrementAndGet();
+        return Optional.of(1L);
+    };
+
+    @Test
+    void cachedEntryIsReusedWithinTtl() {
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(60, 10);
+        UUID uuid = UUID.randomUUID();
+
+        assertThat(cache.getUserId(uuid, loader)).contains(1L);
+        assertThat(cache.getUserId(uuid, loader)).contains(1L);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void expiredEntryIsReloaded() {
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(0, 10);
+        UUID uuid = UUID.randomUUID();
+
+        cache.getUserId(uuid, loader);
+        cache.getUserId(uuid, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsDroppedOverMaxSize() {
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(60, 2);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        cache.getUserId(first, loader);
+        cache.getUserId(second, loader);
+        cache.getUserId(first, loader);
+        cache.getUserId(third, loader);
+        assertThat(loads).hasValue(3);
+
+        cache.getUserId(first, loader);
+        assertThat(loads).hasValue(3);
+        cache.getUserId(second, loader);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void missingUserIsNotCached() {
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(60, 10);
+        UUID uuid = UUID.randomUUID();
+        Function<UUID, Optional<Long>> missing = u -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        };
+
+        assertThat(cache.getUserId(uuid, missing)).isEmpty();
+        assertThat(cache.getUserId(uuid, missing)).isEmpty();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evictByUserIdRemovesEveryEntryOfThatUser() {
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(60, 10);
+        UUID uuid = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        cache.getUserId(uuid, loader);
+        cache.getUserId(other, u -> Optional.of(2L));
+
+        cache.evictByUserId(1L);
+
+        cache.getUserId(uuid, loader);
+        assertThat(loads).hasValue(2);
+        assertThat(cache.getUserId(other, u -> Optional.of(99L))).contains(2L);
+    }
+
+    @Test
+    void loadStartedBeforeEvictionIsNotCached() {
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(60, 10);
+        UUID uuid = UUID.randomUUID();
+
+        // 조회 도중 탈퇴 처리로 무효화가 일어난 상황
+        cache.getUserId(uuid, u -> {
+            cache.evict(u);
+            return Optional.of(1L);
+        });
+        cache.getUserId(uuid, loader);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evictAfterCommitEvictsAgainOnceTheTransactionCommits() {
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(60, 10);
+        UUID uuid = UUID.randomUUID();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evictAfterCommit(uuid);
+            // 커밋 전 요청이 이전 상태를 다시 채움
+            cache.getUserId(uuid, loader);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        cache.getUserId(uuid, loader);
+        assertThat(loads).hasValue(2);
+    }
+}
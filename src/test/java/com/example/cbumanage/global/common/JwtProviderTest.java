@@ -0,0 +1,91 @@
+package com.example.cbumanage.global.common;
+
+import com.example.cbumanage.user.entity.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-provider-0123456789";
+
+    private final JwtProvider jwtProvider = new JwtProvider();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtProvider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtProvider, "accessExpireTime", 60_000L);
+        ReflectionTestUtils.setField(jwtProvider, "refreshExpireTime", 600_000L);
+        ReflectionTestUtils.setField(jwtProvider, "verifiedCacheSize", 2);
+        jwtProvider.init();
+    }
+
+    @Test
+    void verifiedTokenIsServedFromCacheUntilExpiry() {
+        String token = accessToken();
+
+        Optional<Claims> first = jwtProvider.parseClaims(token);
+        Optional<Claims> second = jwtProvider.parseClaims(token);
+
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(second.get()).isSameAs(first.get());
+    }
+
+    @Test
+    void tamperedTokenIsRejectedEvenWhenOriginalIsCached() {
+        String token = accessToken();
+        assertThat(jwtProvider.parseClaims(token)).isPresent();
+
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char first = token.charAt(signatureStart);
+        String tampered = token.substring(0, signatureStart) + (first == 'A' ? 'B' : 'A') + token.substring(signatureStart + 1);
+        String forged = Jwts.builder()
+                .subject(UUID.randomUUID().toString())
+                .expiration(new Date(System.currentTimeMillis() + 60_000L))
+                .signWith(Keys.hmacShaKeyFor("another-secret-key-for-jwt-provider-0123456".getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(jwtProvider.parseClaims(tampered)).isEmpty();
+        assertThat(jwtProvider.parseClaims(forged)).isEmpty();
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        String expired = Jwts.builder()
+                .subject(UUID.randomUUID().toString())
+                .expiration(new Date(System.currentTimeMillis() - 1_000L))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(jwtProvider.parseClaims(expired)).isEmpty();
+        assertThat(jwtProvider.validateToken(expired)).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cacheStaysWithinConfiguredSize() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(jwtProvider.parseClaims(accessToken())).isPresent();
+        }
+
+        Map<String, ?> verifiedTokens = (Map<String, ?>) ReflectionTestUtils.getField(jwtProvider, "verifiedTokens");
+        assertThat(verifiedTokens).hasSizeLessThanOrEqualTo(2);
+        assertThat(verifiedTokens.keySet()).allSatisfy(key -> assertThat(key).doesNotContain("."));
+    }
+
+    private String accessToken() {
+        return jwtProvider.createToken(UUID.randomUUID(), "회원", Role.ROLE_USER, "session").accessToken();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.cbumanage.global.common;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ViewCountBufferTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ViewCountBuffer buffer = new ViewCountBuffer(jdbcTemplate, mock(PlatformTransactionManager.class));
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushWritesOneBatchPerTargetOrderedById() {
+        buffer.increment(ViewCountBuffer.Target.POST, 7L);
+        buffer.increment(ViewCountBuffer.Target.POST, 3L);
+        buffer.increment(ViewCountBuffer.Target.POST, 7L);
+        buffer.increment(ViewCountBuffer.Target.GATHERING, 1L);
+
+        buffer.flush();
+
+        ArgumentCaptor<List<Object[]>> postBatch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE post"), postBatch.capture());
+        assertThat(postBatch.getValue()).containsExactly(new Object[]{1L, 3L}, new Object[]{2L, 7L});
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE gathering"), anyList());
+    }
+
+    @Test
+    void flushSkipsTargetsWithoutNewViews() {
+        buffer.increment(ViewCountBuffer.Target.POST, 1L);
+        buffer.flush();
+        buffer.flush();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("UPDATE gathering"), anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void failedFlushKeepsCountsForNextRun() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(new int[]{1});
+        buffer.increment(ViewCountBuffer.Target.POST, 5L);
+        buffer.flush();
+        buffer.increment(ViewCountBuffer.Target.POST, 5L);
+
+        buffer.flush();
+
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(eq("UPDATE post SET view_count = view_count + ? WHERE post_id = ?"), batches.capture());
+        assertThat(batches.getAllValues().get(1)).containsExactly(new Object[]{2L, 5L});
+    }
+
+    @Test
+    void flushThatCannotStartTransactionKeepsCounts() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any()))
+                .thenThrow(new CannotCreateTransactionException("no connection"))
+                .thenReturn(mock(TransactionStatus.class));
+        ViewCountBuffer failingBuffer = new ViewCountBuffer(jdbcTemplate, transactionManager);
+        failingBuffer.increment(ViewCountBuffer.Target.POST, 5L);
+
+        failingBuffer.flush();
+        failingBuffer.flush();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(startsWith("UPDATE post"), anyList());
+    }
+}
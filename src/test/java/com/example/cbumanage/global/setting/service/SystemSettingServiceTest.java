@@ -0,0 +1,92 @@
+package com.example.cbumanage.global.setting.service;
+
+import com.example.cbumanage.global.setting.dto.OnboardingLinksRequest;
+import com.example.cbumanage.global.setting.dto.OnboardingLinksResponse;
+import com.example.cbumanage.global.setting.entity.SystemSetting;
+import com.example.cbumanage.global.setting.repository.SystemSettingRepository;
+import com.example.cbumanage.global.util.RedisUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SystemSettingServiceTest {
+
+    private final SystemSettingRepository systemSettingRepository = mock(SystemSettingRepository.class);
+    private final RedisUtil redisUtil = mock(RedisUtil.class);
+    private final SystemSettingService systemSettingService = new SystemSettingService(
+            systemSettingRepository,
+            redisUtil,
+            mock(RedisMessageListenerContainer.class)
+    );
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(systemSettingService, "defaultFrontendUrl", "https://default.example.com");
+        ReflectionTestUtils.setField(systemSettingService, "defaultOpenChatUrl", "");
+        ReflectionTestUtils.setField(systemSettingService, "defaultDiscordUrl", "");
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void readsComeFromSnapshotLoadedOnce() {
+        when(systemSettingRepository.findAll()).thenReturn(List.of(
+                new SystemSetting(SystemSettingService.OPEN_CHAT_URL, "https://open.kakao.com/cbu"),
+                new SystemSetting(SystemSettingService.DISCORD_URL, " ")));
+        systemSettingService.init();
+
+        for (int i = 0; i < 150; i++) {
+            OnboardingLinksResponse links = systemSettingService.getOnboardingLinks();
+            assertThat(links.frontendUrl()).isEqualTo("https://default.example.com");
+            assertThat(links.openChatUrl()).isEqualTo("https://open.kakao.com/cbu");
+            assertThat(links.discordUrl()).isEmpty();
+        }
+
+        verify(systemSettingRepository, times(1)).findAll();
+        verify(systemSettingRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void updateSwapsSnapshotAndNotifiesOnlyAfterCommit() {
+        when(systemSettingRepository.findAll()).thenReturn(List.of());
+        systemSettingService.init();
+        when(systemSettingRepository.findById(anyString())).thenReturn(Optional.empty());
+        TransactionSynchronizationManager.initSynchronization();
+
+        systemSettingService.updateOnboardingLinks(
+                new OnboardingLinksRequest("https://new.example.com", null, "https://discord.gg/cbu"));
+
+        assertThat(systemSettingService.getOnboardingLinks().discordUrl()).isEmpty();
+        verify(redisUtil, never()).publish(anyString(), anyString());
+
+        when(systemSettingRepository.findAll()).thenReturn(List.of(
+                new SystemSetting(SystemSettingService.FRONTEND_URL, "https://new.example.com"),
+                new SystemSetting(SystemSettingService.DISCORD_URL, "https://discord.gg/cbu")));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        OnboardingLinksResponse links = systemSettingService.getOnboardingLinks();
+        assertThat(links.frontendUrl()).isEqualTo("https://new.example.com");
+        assertThat(links.discordUrl()).isEqualTo("https://discord.gg/cbu");
+        verify(redisUtil).publish(SystemSettingService.CHANGE_CHANNEL, "reload");
+    }
+}
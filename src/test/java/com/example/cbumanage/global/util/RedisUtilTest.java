@@ -0,0 +1,95 @@
+package com.example.cbumanage.global.util;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RedisUtilTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final RedisUtil redisUtil = new RedisUtil(redisTemplate);
+
+    @Test
+    void getMultiDataUsesSingleMgetAndKeepsKeyOrder() {
+        List<String> keys = List.of("a", "b", "c");
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(keys)).thenReturn(Arrays.asList("1", null, "3"));
+
+        assertThat(redisUtil.getMultiData(keys)).containsExactly("1", null, "3");
+        verify(valueOperations).multiGet(keys);
+    }
+
+    @Test
+    void getMultiDataWithoutKeysSkipsRedis() {
+        assertThat(redisUtil.getMultiData(List.of())).isEmpty();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void setMultiDataExpireSendsEverySetexInOnePipeline() {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("a", "1");
+        values.put("b", "2");
+
+        redisUtil.setMultiDataExpire(values, 600L);
+
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        callback.getValue().doInRedis(connection);
+        verify(connection).setEx("a", 600L, "1");
+        verify(connection).setEx("b", 600L, "2");
+    }
+
+    @Test
+    void setMultiDataExpireWithoutValuesSkipsRedis() {
+        redisUtil.setMultiDataExpire(Map.of(), 600L);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void deleteMultiDataUsesSingleDel() {
+        List<String> keys = List.of("a", "b");
+
+        redisUtil.deleteMultiData(keys);
+
+        verify(redisTemplate).delete(keys);
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    void deleteMultiDataWithoutKeysSkipsRedis() {
+        redisUtil.deleteMultiData(List.of());
+        verify(redisTemplate, never()).delete(anyCollection());
+    }
+
+    @Test
+    void getAndDeleteDataUsesSingleGetdel() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.getAndDelete("code")).thenReturn("123456");
+
+        assertThat(redisUtil.getAndDeleteData("code")).isEqualTo("123456");
+        verify(valueOperations).getAndDelete("code");
+        verify(valueOperations, never()).get(anyString());
+    }
+}
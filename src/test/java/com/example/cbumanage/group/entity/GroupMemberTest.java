@@ -0,0 +1,35 @@
+package com.example.cbumanage.group.entity;
+
+import com.example.cbumanage.group.entity.enums.GroupMemberRole;
+import com.example.cbumanage.group.entity.enums.GroupMemberStatus;
+import com.example.cbumanage.user.entity.User;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupMemberTest {
+
+    @Test
+    void activeMemberCountFollowsStatusTransitions() {
+        Group group = Group.create("알고리즘 스터디", 1, 4, 1L, 1);
+        group.addMember(GroupMember.create(group, user(), GroupMemberStatus.ACTIVE, GroupMemberRole.LEADER));
+        GroupMember applicant = GroupMember.create(group, user(), GroupMemberStatus.PENDING, GroupMemberRole.MEMBER);
+        group.addMember(applicant);
+        assertThat(group.getActiveMemberCount()).isEqualTo(1);
+
+        applicant.active();
+        applicant.active();
+        assertThat(group.getActiveMemberCount()).isEqualTo(2);
+
+        applicant.reject("활동 중단");
+        assertThat(group.getActiveMemberCount()).isEqualTo(1);
+
+        applicant.pending();
+        applicant.reject("모집 마감");
+        assertThat(group.getActiveMemberCount()).isEqualTo(1);
+    }
+
+    private static User user() {
+        return new User("member@example.com", 20240001L, "encoded-password");
+    }
+}
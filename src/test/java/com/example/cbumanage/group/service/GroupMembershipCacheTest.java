@@ -0,0 +1,114 @@
+package com.example.cbumanage.group.service;
+
+import com.example.cbumanage.group.dto.GroupDTO;
+import com.example.cbumanage.group.entity.Group;
+import com.example.cbumanage.group.entity.GroupMember;
+import com.example.cbumanage.group.entity.enums.GroupMemberRole;
+import com.example.cbumanage.group.entity.enums.GroupMemberStatus;
+import com.example.cbumanage.group.repository.GroupMemberRepository;
+import com.example.cbumanage.global.util.RedisUtil;
+import com.example.cbumanage.user.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GroupMembershipCacheTest {
+
+    private final GroupMemberRepository groupMemberRepository = mock(GroupMemberRepository.class);
+    private final RedisUtil redisUtil = mock(RedisUtil.class);
+    private final GroupMembershipCache cache = new GroupMembershipCache(
+            groupMemberRepository, redisUtil, mock(RedisMessageListenerContainer.class), 300, 300, 100);
+
+    @Test
+    void repeatedChecksForSamePairAreServedFromMemory() {
+        Group group = Group.create("알고리즘 스터디", 1, 4, 1L, 1);
+        when(groupMemberRepository.findByGroupIdAndUserUserId(1L, 10L)).thenReturn(
+                GroupMember.create(group, new User("leader@example.com", 20240001L, "pw"),
+                        GroupMemberStatus.ACTIVE, GroupMemberRole.LEADER));
+
+        assertThat(cache.get(1L, 10L).role()).isEqualTo(GroupMemberRole.LEADER);
+        assertThat(cache.isActiveMember(1L, 10L)).isTrue();
+        assertThat(cache.isActiveMember(1L, 11L)).isFalse();
+        assertThat(cache.get(1L, 11L)).isEqualTo(GroupMembershipCache.Membership.NONE);
+
+        verify(groupMemberRepository, times(1)).findByGroupIdAndUserUserId(1L, 10L);
+        verify(groupMemberRepository, times(1)).findByGroupIdAndUserUserId(1L, 11L);
+        GroupDTO.MembershipCacheStatsDTO stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(2);
+        assertThat(stats.misses()).isEqualTo(2);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+        assertThat(stats.size()).isEqualTo(2);
+    }
+
+    @Test
+    void evictReloadsMembershipAfterStatusChange() {
+        assertThat(cache.get(1L, 10L)).isEqualTo(GroupMembershipCache.Membership.NONE);
+
+        Group group = Group.create("알고리즘 스터디", 1, 4, 1L, 1);
+        when(groupMemberRepository.findByGroupIdAndUserUserId(1L, 10L)).thenReturn(
+                GroupMember.create(group, new User("member@example.com", 20240002L, "pw"),
+                        GroupMemberStatus.PENDING, GroupMemberRole.MEMBER));
+        cache.evictAfterCommit(1L, 10L);
+
+        assertThat(cache.get(1L, 10L).status()).isEqualTo(GroupMemberStatus.PENDING);
+        verify(groupMemberRepository, times(2)).findByGroupIdAndUserUserId(1L, 10L);
+    }
+
+    @Test
+    void evictionIsBroadcastToOtherInstancesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evictAfterCommit(1L, 10L);
+            verify(redisUtil, never()).publish(anyString(), anyString());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(redisUtil).publish(GroupMembershipCache.EVICT_CHANNEL, "1:10");
+    }
+
+    @Test
+    void evictionMessageFromAnotherInstanceDropsLocalEntry() {
+        Group group = Group.create("알고리즘 스터디", 1, 4, 1L, 1);
+        when(groupMemberRepository.findByGroupIdAndUserUserId(1L, 10L)).thenReturn(
+                GroupMember.create(group, new User("member@example.com", 20240002L, "pw"),
+                        GroupMemberStatus.ACTIVE, GroupMemberRole.MEMBER));
+        assertThat(cache.isActiveMember(1L, 10L)).isTrue();
+
+        // 다른 인스턴스에서 이 멤버를 거절하고 보낸 알림
+        when(groupMemberRepository.findByGroupIdAndUserUserId(1L, 10L)).thenReturn(null);
+        cache.evictFromMessage("1:10");
+        cache.evictFromMessage("malformed");
+
+        assertThat(cache.isActiveMember(1L, 10L)).isFalse();
+        verify(groupMemberRepository, times(2)).findByGroupIdAndUserUserId(1L, 10L);
+    }
+
+    @Test
+    void activeMembershipExpiresSoonerThanOtherEntries() {
+        GroupMembershipCache shortActiveCache = new GroupMembershipCache(
+                groupMemberRepository, redisUtil, mock(RedisMessageListenerContainer.class), 300, 0, 100);
+        Group group = Group.create("알고리즘 스터디", 1, 4, 1L, 1);
+        when(groupMemberRepository.findByGroupIdAndUserUserId(1L, 10L)).thenReturn(
+                GroupMember.create(group, new User("member@example.com", 20240002L, "pw"),
+                        GroupMemberStatus.ACTIVE, GroupMemberRole.MEMBER));
+
+        shortActiveCache.isActiveMember(1L, 10L);
+        shortActiveCache.isActiveMember(1L, 10L);
+        shortActiveCache.isActiveMember(1L, 11L);
+        shortActiveCache.isActiveMember(1L, 11L);
+
+        verify(groupMemberRepository, times(2)).findByGroupIdAndUserUserId(1L, 10L);
+        verify(groupMemberRepository, times(1)).findByGroupIdAndUserUserId(1L, 11L);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.cbumanage.group.service;
+
+import com.example.cbumanage.comment.repository.CommentRepository;
+import com.example.cbumanage.global.error.BaseException;
+import com.example.cbumanage.group.entity.Group;
+import com.example.cbumanage.group.entity.GroupMember;
+import com.example.cbumanage.group.entity.enums.GroupMemberRole;
+import com.example.cbumanage.group.entity.enums.GroupMemberStatus;
+import com.example.cbumanage.group.repository.GroupMemberRepository;
+import com.example.cbumanage.group.repository.GroupRepository;
+import com.example.cbumanage.group.util.GroupUtil;
+import com.example.cbumanage.project.repository.ProjectRepository;
+import com.example.cbumanage.study.repository.StudyRepository;
+import com.example.cbumanage.user.entity.User;
+import com.example.cbumanage.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GroupServiceTest {
+
+    private final GroupRepository groupRepository = mock(GroupRepository.class);
+    private final GroupMemberRepository groupMemberRepository = mock(GroupMemberRepository.class);
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final StudyRepository studyRepository = mock(StudyRepository.class);
+    private final GroupMembershipCache membershipCache = mock(GroupMembershipCache.class);
+    private final GroupService groupService = new GroupService(
+            groupRepository,
+            groupMemberRepository,
+            mock(UserRepository.class),
+            mock(CommentRepository.class),
+            projectRepository,
+            studyRepository,
+            mock(GroupUtil.class),
+            membershipCache
+    );
+
+    @Test
+    void memberStatusChangeAppliesActiveCountDeltaAtomically() {
+        Group group = group(1L);
+        group.addMember(GroupMember.create(group, user(), GroupMemberStatus.ACTIVE, GroupMemberRole.LEADER));
+        GroupMember applicant = GroupMember.create(group, user(), GroupMemberStatus.PENDING, GroupMemberRole.MEMBER);
+        group.addMember(applicant);
+        givenLockedMember(group, 7L, applicant);
+
+        groupService.updateStatusGroupMember(7L, 10L, GroupMemberStatus.ACTIVE, null);
+        verify(groupRepository).adjustActiveMemberCount(1L, 1);
+
+        groupService.updateStatusGroupMember(7L, 10L, GroupMemberStatus.REJECTED, "활동 중단");
+        verify(groupRepository).adjustActiveMemberCount(1L, -1);
+        assertThat(group.getActiveMemberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectingPendingMemberLeavesActiveCountUntouched() {
+        Group group = group(1L);
+        GroupMember applicant = GroupMember.create(group, user(), GroupMemberStatus.PENDING, GroupMemberRole.MEMBER);
+        group.addMember(applicant);
+        givenLockedMember(group, 7L, applicant);
+
+        groupService.updateStatusGroupMember(7L, 10L, GroupMemberStatus.REJECTED, "모집 마감");
+
+        verify(groupRepository, never()).adjustActiveMemberCount(anyLong(), anyInt());
+    }
+
+    @Test
+    void maxMemberChangeChecksActiveCountUnderGroupLock() {
+        Group group = group(1L);
+        group.addMember(GroupMember.create(group, user(), GroupMemberStatus.ACTIVE, GroupMemberRole.LEADER));
+        group.addMember(GroupMember.create(group, user(), GroupMemberStatus.ACTIVE, GroupMemberRole.MEMBER));
+        when(groupRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(group));
+
+        assertThatThrownBy(() -> groupService.updateGroupMaxMember(1L, 2)).isInstanceOf(BaseException.class);
+        groupService.updateGroupMaxMember(1L, 3);
+
+        assertThat(group.getMaxActiveMembers()).isEqualTo(3);
+        verify(groupRepository, never()).findByIdAndIsDeletedFalse(anyLong());
+    }
+
+    private void givenLockedMember(Group group, Long groupMemberId, GroupMember member) {
+        when(groupMemberRepository.findGroupIdById(groupMemberId)).thenReturn(Optional.of(group.getId()));
+        when(groupRepository.findByIdForUpdate(group.getId())).thenReturn(Optional.of(group));
+        when(groupMemberRepository.findById(groupMemberId)).thenReturn(Optional.of(member));
+        when(membershipCache.get(group.getId(), 10L))
+                .thenReturn(new GroupMembershipCache.Membership(GroupMemberStatus.ACTIVE, GroupMemberRole.LEADER));
+    }
+
+    private static Group group(Long id) {
+        Group group = Group.create("알고리즘 스터디", 1, 4, 1L, 1);
+        ReflectionTestUtils.setField(group, "id", id);
+        return group;
+    }
+
+    private static User user() {
+        return new User("member@example.com", 20240001L, "encoded-password");
+    }
+}
@@ -1,9 +1,10 @@
 package com.example.cbumanage.member.service;
 
 import com.example.cbumanage.dues.repository.DuesRepository;
-import com.example.cbumanage.application.repository.ApplicationNotificationRepository;
-import com.example.cbumanage.email.service.EmailService;
+import com.example.cbumanage.email.service.MailOutboxService;
+import com.example.cbumanage.global.common.AuthenticatedUserCache;
 import com.example.cbumanage.member.util.MemberMapper;
+import com.example.cbumanage.report.repository.PostReportRepository;
 import com.example.cbumanage.user.entity.MemberStatus;
 import com.example.cbumanage.user.entity.User;
 import com.example.cbumanage.user.repository.UserRepository;
@@ -21,12 +22,14 @@ import static org.mockito.Mockito.when;
 class MemberManageServiceTest {
 
     private final UserRepository userRepository = mock(UserRepository.class);
+    private final AuthenticatedUserCache authenticatedUserCache = mock(AuthenticatedUserCache.class);
     private final MemberManageService memberManageService = new MemberManageService(
             userRepository,
             mock(DuesRepository.class),
             mock(MemberMapper.class),
-            mock(EmailService.class),
-            mock(ApplicationNotificationRepository.class)
+            mock(MailOutboxService.class),
+            authenticatedUserCache,
+            mock(PostReportRepository.class)
     );
 
     @Test
@@ -40,5 +43,6 @@ class MemberManageServiceTest {
         assertThat(user.getDeletedAt()).isNotNull();
         assertThat(user.getMemberStatus()).isEqualTo(MemberStatus.WITHDRAWN);
         verify(userRepository, never()).delete(any(User.class));
+        verify(authenticatedUserCache).evictAfterCommit(user.getUserUuid());
     }
 }
@@ -0,0 +1,101 @@
+package com.example.cbumanage.post.service;
+
+import com.example.cbumanage.comment.repository.CommentRepository;
+import com.example.cbumanage.group.repository.GroupRepository;
+import com.example.cbumanage.group.util.GroupUtil;
+import com.example.cbumanage.post.dto.PostDTO;
+import com.example.cbumanage.post.entity.Post;
+import com.example.cbumanage.post.repository.PostRepository;
+import com.example.cbumanage.post.util.PostMapper;
+import com.example.cbumanage.report.service.PostReportPreviewTotalCache;
+import com.example.cbumanage.reportmember.repository.ReportMemberRepository;
+import com.example.cbumanage.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.cbumanage.user.entity.UserFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostServiceTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final PostMapper postMapper = new PostMapper(
+            mock(GroupUtil.class),
+            mock(GroupRepository.class),
+            userRepository,
+            commentRepository,
+            mock(ReportMemberRepository.class)
+    );
+    private final PostService postService = new PostService(postRepository, postMapper, userRepository,
+            mock(PostReportPreviewTotalCache.class));
+
+    @BeforeEach
+    void setUp() {
+        // 매퍼는 저장소의 default 메서드로 작성자와 댓글 수를 묶어 조회하므로 실제 구현을 태우고 그 아래 쿼리 메서드만 스텁합니다
+        when(userRepository.findAllByIdAsMap(anyCollection())).thenCallRealMethod();
+        when(commentRepository.countCommentsByPostIds(anyCollection())).thenCallRealMethod();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getPostsByCategoryKeepsPageOrderAndMatchesEachPostToItsAuthor() {
+        List<Post> posts = List.of(post(1L, 3L), post(2L, 1L), post(3L, 3L));
+        PageRequest pageable = PageRequest.of(0, 3);
+        when(postRepository.findByCategoryAndIsDeletedFalse(1, pageable))
+                .thenReturn(new PageImpl<>(posts, pageable, 500));
+        // 일괄 조회 결과는 게시글 순서와 무관하게 돌아온다
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(user(1L), user(3L)));
+
+        Page<PostDTO.PostInfoDTO> result = postService.getPostsByCategory(pageable, 1);
+
+        assertThat(result.getTotalElements()).isEqualTo(500);
+        assertThat(result.getContent()).extracting(PostDTO.PostInfoDTO::postId).containsExactly(1L, 2L, 3L);
+        assertThat(result.getContent()).extracting(PostDTO.PostInfoDTO::authorName)
+                .containsExactly("회원3", "회원1", "회원3");
+        ArgumentCaptor<Iterable<Long>> authorIds = ArgumentCaptor.forClass(Iterable.class);
+        verify(userRepository).findAllById(authorIds.capture());
+        assertThat(authorIds.getValue()).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void getMyPostsAttachesGroupedCommentCountPerPostAndZeroForPostsWithoutComments() {
+        List<Post> posts = List.of(post(1L, 7L), post(2L, 7L), post(3L, 7L));
+        List<Object[]> commentCounts = new ArrayList<>();
+        commentCounts.add(new Object[]{1L, 3L});
+        commentCounts.add(new Object[]{3L, 1L});
+        PageRequest pageable = PageRequest.of(0, 3);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user(7L)));
+        when(postRepository.findByAuthorIdAndIsDeletedFalse(7L, pageable))
+                .thenReturn(new PageImpl<>(posts, pageable, 3));
+        when(commentRepository.countGroupByPostIds(List.of(1L, 2L, 3L))).thenReturn(commentCounts);
+
+        Page<PostDTO.PostMyPageViewDTO> result = postService.getMyPosts(pageable, 7L);
+
+        assertThat(result.getContent()).extracting(PostDTO.PostMyPageViewDTO::getPostId).containsExactly(1L, 2L, 3L);
+        assertThat(result.getContent()).extracting(PostDTO.PostMyPageViewDTO::getCommentCount)
+                .containsExactly(3L, 0L, 1L);
+        assertThat(result.getContent()).extracting(PostDTO.PostMyPageViewDTO::getAuthorName).containsOnly("회원7");
+    }
+
+    private static Post post(Long postId, Long authorId) {
+        Post post = Post.create(authorId, "제목" + postId, "내용", 1);
+        ReflectionTestUtils.setField(post, "id", postId);
+        return post;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.cbumanage.problem.service;
+
+import com.example.cbumanage.problem.entity.Category;
+import com.example.cbumanage.problem.entity.Language;
+import com.example.cbumanage.problem.entity.Platform;
+import com.example.cbumanage.problem.repository.CategoryRepository;
+import com.example.cbumanage.problem.repository.LanguageRepository;
+import com.example.cbumanage.problem.repository.PlatformRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProblemReferenceDataRegistryTest {
+
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final PlatformRepository platformRepository = mock(PlatformRepository.class);
+    private final LanguageRepository languageRepository = mock(LanguageRepository.class);
+    private final ProblemReferenceDataRegistry registry = new ProblemReferenceDataRegistry(
+            categoryRepository, platformRepository, languageRepository, 600);
+
+    @BeforeEach
+    void setUp() {
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1, "DP"), category(2, "BFS")));
+        when(platformRepository.findAll()).thenReturn(List.of(platform(1, "백준")));
+        when(languageRepository.findAll()).thenReturn(List.of(language(1, "Java")));
+    }
+
+    @Test
+    void lookupsAreServedFromOneLoadUntilRefreshed() {
+        assertThat(registry.getCategories()).extracting(Category::getName).containsExactly("DP", "BFS");
+        assertThat(registry.findCategories(List.of(2, 3))).extracting(Category::getName).containsExactly("BFS");
+        assertThat(registry.findPlatform(1)).map(Platform::getName).contains("백준");
+        assertThat(registry.findLanguage(9)).isEmpty();
+        assertThat(registry.version()).isEqualTo(1L);
+        verify(categoryRepository, times(1)).findAll();
+
+        registry.refresh();
+
+        assertThat(registry.getLanguages()).hasSize(1);
+        assertThat(registry.version()).isEqualTo(2L);
+        verify(categoryRepository, times(2)).findAll();
+        verify(platformRepository, times(2)).findAll();
+        verify(languageRepository, times(2)).findAll();
+    }
+
+    private static Category category(int id, String name) {
+        Category category = new Category(name);
+        ReflectionTestUtils.setField(category, "categoryId", id);
+        return category;
+    }
+
+    private static Platform platform(int id, String name) {
+        Platform platform = new Platform(name);
+        ReflectionTestUtils.setField(platform, "platformId", id);
+        return platform;
+    }
+
+    private static Language language(int id, String name) {
+        Language language = new Language(name);
+        ReflectionTestUtils.setField(language, "languageId", id);
+        return language;
+    }
+}
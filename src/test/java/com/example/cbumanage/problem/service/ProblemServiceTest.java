@@ -0,0 +1,94 @@
+package com.example.cbumanage.problem.service;
+
+import com.example.cbumanage.comment.repository.CommentRepository;
+import com.example.cbumanage.global.common.ViewCountBuffer;
+import com.example.cbumanage.post.entity.Post;
+import com.example.cbumanage.post.repository.PostRepository;
+import com.example.cbumanage.problem.dto.ProblemListItemDTO;
+import com.example.cbumanage.problem.entity.Category;
+import com.example.cbumanage.problem.entity.Language;
+import com.example.cbumanage.problem.entity.Platform;
+import com.example.cbumanage.problem.entity.Problem;
+import com.example.cbumanage.problem.entity.enums.ProblemGrade;
+import com.example.cbumanage.problem.entity.enums.ProblemStatus;
+import com.example.cbumanage.problem.repository.ProblemRepository;
+import com.example.cbumanage.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.cbumanage.user.entity.UserFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProblemServiceTest {
+
+    private final ProblemRepository problemRepository = mock(ProblemRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final ProblemService problemService = new ProblemService(
+            problemRepository,
+            mock(PostRepository.class),
+            userRepository,
+            mock(ProblemReferenceDataRegistry.class),
+            commentRepository,
+            mock(ViewCountBuffer.class)
+    );
+
+    @BeforeEach
+    void setUp() {
+        // 작성자와 댓글 수는 저장소의 default 메서드로 모으므로 실제 구현을 태우고 findAllById, countGroupByPostIds 만 스텁합니다
+        when(userRepository.findAllByIdAsMap(anyCollection())).thenCallRealMethod();
+        when(commentRepository.countCommentsByPostIds(anyCollection())).thenCallRealMethod();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getProblemsAttachesEachPostsOwnCommentCountFromOneGroupedQuery() {
+        List<Problem> problems = List.of(problem(1L, 2L), problem(2L, 1L), problem(3L, 2L));
+        List<Object[]> commentCounts = new ArrayList<>();
+        commentCounts.add(new Object[]{3L, 2L});
+        commentCounts.add(new Object[]{1L, 4L});
+        PageRequest pageable = PageRequest.of(0, 3);
+        when(problemRepository.findAll(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(problems, pageable, 100));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(user(1L), user(2L)));
+        when(commentRepository.countGroupByPostIds(List.of(1L, 2L, 3L))).thenReturn(commentCounts);
+
+        Page<ProblemListItemDTO> result = problemService.getProblems(pageable, null, null);
+
+        assertThat(result.getContent()).extracting(ProblemListItemDTO::getPostId).containsExactly(1L, 2L, 3L);
+        // 댓글이 없는 게시글은 집계 결과에 행이 없으므로 0 으로 채운다
+        assertThat(result.getContent()).extracting(ProblemListItemDTO::getCommentCount).containsExactly(4L, 0L, 2L);
+        assertThat(result.getContent()).extracting(ProblemListItemDTO::getAuthorName)
+                .containsExactly("회원2", "회원1", "회원2");
+        assertThat(result.getContent().get(0).getPlatformName()).isEqualTo("백준");
+        assertThat(result.getContent().get(0).getLanguageName()).isEqualTo("Java");
+        assertThat(result.getContent().get(0).getCategories()).containsExactly("그리디");
+    }
+
+    private static Problem problem(Long postId, Long authorId) {
+        Post post = Post.create(authorId, "문제" + postId, "내용", 5);
+        ReflectionTestUtils.setField(post, "id", postId);
+        return Problem.builder()
+                .post(post)
+                .categories(List.of(new Category("그리디")))
+                .platform(new Platform("백준"))
+                .language(new Language("Java"))
+                .grade(ProblemGrade.values()[0])
+                .problemStatus(ProblemStatus.values()[0])
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.cbumanage.report.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostReportPreviewTotalCacheTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private final PostReportPreviewTotalCache cache = new PostReportPreviewTotalCache(30, 100);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void reusesTotalForSameFilterRegardlessOfGroupOrder() {
+        assertThat(cache.getOrLoad(7, List.of(3L, 1L), START, null, this::load)).isEqualTo(1);
+        assertThat(cache.getOrLoad(7, List.of(1L, 3L, 3L), START, null, this::load)).isEqualTo(1);
+        assertThat(cache.getOrLoad(7, null, START, null, this::load)).isEqualTo(2);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void invalidateAllForcesRecount() {
+        cache.getOrLoad(7, null, null, null, this::load);
+        cache.invalidateAll();
+
+        assertThat(cache.getOrLoad(7, null, null, null, this::load)).isEqualTo(2);
+    }
+
+    @Test
+    void countStartedBeforeInvalidationIsNotCached() {
+        long stale = cache.getOrLoad(7, null, null, null, () -> {
+            cache.invalidateAll();
+            return 10;
+        });
+
+        assertThat(stale).isEqualTo(10);
+        assertThat(cache.getOrLoad(7, null, null, null, this::load)).isEqualTo(1);
+    }
+
+    private long load() {
+        return loads.incrementAndGet();
+    }
+}
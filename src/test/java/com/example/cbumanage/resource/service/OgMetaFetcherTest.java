@@ -0,0 +1,134 @@
+package com.example.cbumanage.resource.service;
+
+import com.example.cbumanage.resource.util.OgMetaParser;
+import com.example.cbumanage.resource.util.OgMetaParser.OgMeta;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OgMetaFetcherTest {
+
+    private static final String OG_HEAD = """
+            <html><head>
+            <meta property="og:title" content="문제 모음">
+            <meta property="og:image" content="https://example.com/og.png">
+            <meta property="og:description" content="설명">
+            </head><body></body></html>
+            """;
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private HttpServer server;
+    private OgMetaFetcher fetcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/ok", exchange -> {
+            hits.incrementAndGet();
+            respond(exchange, 200, OG_HEAD);
+        });
+        server.createContext("/slow", exchange -> {
+            hits.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, OG_HEAD);
+        });
+        server.createContext("/missing", exchange -> {
+            hits.incrementAndGet();
+            respond(exchange, 404, "not found");
+        });
+        server.createContext("/large", exchange -> {
+            hits.incrementAndGet();
+            respond(exchange, 200, "<html><head>" + "<!-- padding -->".repeat(500) + OG_HEAD.substring(12));
+        });
+        server.start();
+
+        fetcher = new OgMetaFetcher(new OgMetaParser(2000, 1024), 3600, 60, 100, 3000, 2, 10);
+        fetcher.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fetcher.shutdownFetchExecutor();
+        server.stop(0);
+    }
+
+    @Test
+    void cachesParsedMetaByUrl() {
+        OgMeta first = fetcher.fetch(url("/ok"));
+        OgMeta second = fetcher.fetch(url("/ok"));
+
+        assertThat(first.title()).isEqualTo("문제 모음");
+        assertThat(first.image()).isEqualTo("https://example.com/og.png");
+        assertThat(second).isEqualTo(first);
+        assertThat(fetcher.getCached(url("/ok"))).contains(first);
+        assertThat(hits).hasValue(1);
+    }
+
+    @Test
+    void cachesFailuresAsNegativeEntries() {
+        assertThat(fetcher.fetch(url("/missing")).isEmpty()).isTrue();
+        assertThat(fetcher.fetch(url("/missing")).isEmpty()).isTrue();
+
+        assertThat(hits).hasValue(1);
+    }
+
+    @Test
+    void coalescesConcurrentRequestsForSameUrl() {
+        List<CompletableFuture<OgMeta>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(fetcher.fetchAsync(url("/slow")));
+        }
+        release.countDown();
+
+        futures.forEach(future -> assertThat(future.join().title()).isEqualTo("문제 모음"));
+        assertThat(hits).hasValue(1);
+    }
+
+    @Test
+    void refetchBypassesCache() {
+        fetcher.fetch(url("/ok"));
+        fetcher.refetch(url("/ok"));
+
+        assertThat(hits).hasValue(2);
+    }
+
+    @Test
+    void stopsReadingBodyAtSizeCap() {
+        assertThat(fetcher.fetch(url("/large")).isEmpty()).isTrue();
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
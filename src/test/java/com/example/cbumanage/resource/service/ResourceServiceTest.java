@@ -0,0 +1,144 @@
+package com.example.cbumanage.resource.service;
+
+import com.example.cbumanage.post.entity.Post;
+import com.example.cbumanage.post.repository.PostRepository;
+import com.example.cbumanage.resource.dto.ResourceCreateRequestDTO;
+import com.example.cbumanage.resource.dto.ResourceListItemDTO;
+import com.example.cbumanage.resource.entity.Resource;
+import com.example.cbumanage.resource.repository.ResourceRepository;
+import com.example.cbumanage.resource.util.OgMetaParser.OgMeta;
+import com.example.cbumanage.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static com.example.cbumanage.user.entity.UserFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResourceServiceTest {
+
+    private final ResourceRepository resourceRepository = mock(ResourceRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final OgMetaFetcher ogMetaFetcher = mock(OgMetaFetcher.class);
+    private final ResourceOgUpdater resourceOgUpdater = mock(ResourceOgUpdater.class);
+    private final ResourceService resourceService = new ResourceService(
+            resourceRepository,
+            postRepository,
+            userRepository,
+            ogMetaFetcher,
+            resourceOgUpdater
+    );
+
+    @BeforeEach
+    void setUp() {
+        // 작성자는 저장소의 default 메서드로 모으므로 실제 구현을 태우고 findAllById 만 스텁합니다
+        when(userRepository.findAllByIdAsMap(anyCollection())).thenCallRealMethod();
+    }
+
+    @Test
+    void listQueryExcludesDeletedPostsAndLoadsPostInSameQuery() throws NoSuchMethodException {
+        // 파생 쿼리 이름이 post.isDeleted = false 조건으로 해석되는지 확인합니다
+        PartTree tree = new PartTree("findByPostIsDeletedFalse", Resource.class);
+        List<Part> parts = tree.getParts().toList();
+        assertThat(parts).hasSize(1);
+        assertThat(parts.get(0).getProperty().toDotPath()).isEqualTo("post.isDeleted");
+        assertThat(parts.get(0).getType()).isEqualTo(Part.Type.FALSE);
+
+        EntityGraph entityGraph = ResourceRepository.class
+                .getMethod("findByPostIsDeletedFalse", Pageable.class)
+                .getAnnotation(EntityGraph.class);
+        assertThat(entityGraph).isNotNull();
+        assertThat(entityGraph.attributePaths()).containsExactly("post");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getResourcesMapsEachResourceToItsPostAndAuthor() {
+        List<Resource> resources = List.of(resource(1L, 2L), resource(2L, 1L), resource(3L, 2L));
+        PageRequest pageable = PageRequest.of(0, 3);
+        when(resourceRepository.findByPostIsDeletedFalse(pageable))
+                .thenReturn(new PageImpl<>(resources, pageable, 100));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(user(1L), user(2L)));
+
+        Page<ResourceListItemDTO> result = resourceService.getResources(pageable);
+
+        assertThat(result.getTotalElements()).isEqualTo(100);
+        assertThat(result.getContent()).extracting(ResourceListItemDTO::getResourceId).containsExactly(1L, 2L, 3L);
+        assertThat(result.getContent()).extracting(ResourceListItemDTO::getTitle).containsExactly("자료1", "자료2", "자료3");
+        assertThat(result.getContent()).extracting(ResourceListItemDTO::getAuthorName)
+                .containsExactly("회원2", "회원1", "회원2");
+        ArgumentCaptor<Iterable<Long>> authorIds = ArgumentCaptor.forClass(Iterable.class);
+        verify(userRepository).findAllById(authorIds.capture());
+        assertThat(authorIds.getValue()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void ogEnrichmentCompletedBeforeCommitIsAppliedOnFetchPoolNotRequestThread() {
+        String link = "https://example.com/article";
+        OgMeta ogMeta = new OgMeta("기사 제목", "https://example.com/og.png", "설명");
+        List<Runnable> fetchPool = new ArrayList<>();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L)));
+        when(ogMetaFetcher.getCached(link)).thenReturn(Optional.empty());
+        // 커밋 직후에는 이미 다른 요청이 캐시를 채워 완료된 future 가 돌아오는 상황
+        when(ogMetaFetcher.fetchAsync(link)).thenReturn(CompletableFuture.completedFuture(ogMeta));
+        when(ogMetaFetcher.callbackExecutor()).thenReturn(fetchPool::add);
+        when(postRepository.save(any(Post.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(resourceRepository.save(any(Resource.class))).thenAnswer(invocation -> {
+            Resource saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "resourceId", 10L);
+            return saved;
+        });
+        ResourceCreateRequestDTO request = new ResourceCreateRequestDTO();
+        request.setLink(link);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            resourceService.createResource(request, 1L);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(resourceOgUpdater, never()).apply(anyLong(), any(), any());
+        assertThat(fetchPool).hasSize(1);
+
+        fetchPool.forEach(Runnable::run);
+
+        verify(resourceOgUpdater).apply(10L, ogMeta, link);
+    }
+
+    private static Resource resource(Long resourceId, Long authorId) {
+        Post post = Post.create(authorId, "자료" + resourceId, "", 6);
+        ReflectionTestUtils.setField(post, "id", resourceId);
+        Resource resource = Resource.builder()
+                .post(post)
+                .link("https://example.com/" + resourceId)
+                .build();
+        ReflectionTestUtils.setField(resource, "resourceId", resourceId);
+        return resource;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.cbumanage.user.entity;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 목록 조회 테스트에서 작성자로 쓰는 회원을 만듭니다. 이름은 "회원{userId}" 입니다.
+ */
+public final class UserFixtures {
+
+    private UserFixtures() {
+    }
+
+    public static User user(Long userId) {
+        User user = new User("user" + userId + "@example.com", 20240000L + userId, "encoded-password");
+        user.updateProfile("회원" + userId, null, "컴퓨터공학과", "3학년", 40L);
+        ReflectionTestUtils.setField(user, "userId", userId);
+        return user;
+    }
+}
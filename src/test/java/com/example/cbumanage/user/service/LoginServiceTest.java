@@ -6,17 +6,21 @@ import com.example.cbumanage.application.entity.enums.ApplicationField;
 import com.example.cbumanage.application.entity.enums.ApplicationStatus;
 import com.example.cbumanage.application.entity.enums.RefSource;
 import com.example.cbumanage.application.repository.MemberApplicationRepository;
+import com.example.cbumanage.email.service.AuthCodeVerifier;
+import com.example.cbumanage.global.common.AuthenticatedUserCache;
 import com.example.cbumanage.global.common.JwtProvider;
 import com.example.cbumanage.global.common.TokenInfo;
 import com.example.cbumanage.global.error.BaseException;
 import com.example.cbumanage.global.error.ErrorCode;
-import com.example.cbumanage.global.util.RedisUtil;
+import com.example.cbumanage.user.dto.PasswordResetRequest;
 import com.example.cbumanage.user.dto.UserLoginRequest;
 import com.example.cbumanage.user.dto.UserSignUpRequest;
 import com.example.cbumanage.user.entity.MemberStatus;
 import com.example.cbumanage.user.entity.Role;
 import com.example.cbumanage.user.entity.User;
 import com.example.cbumanage.user.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -31,6 +35,8 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -40,13 +46,17 @@ class LoginServiceTest {
 
     private final UserRepository userRepository = mock(UserRepository.class);
     private final JwtProvider jwtProvider = mock(JwtProvider.class);
-    private final RedisUtil redisUtil = mock(RedisUtil.class);
+    private final AuthCodeVerifier authCodeVerifier = mock(AuthCodeVerifier.class);
     private final MemberApplicationRepository memberApplicationRepository = mock(MemberApplicationRepository.class);
+    private final AuthenticatedUserCache authenticatedUserCache = mock(AuthenticatedUserCache.class);
+    private final RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
     private final LoginService loginService = new LoginService(
             userRepository,
             jwtProvider,
-            redisUtil,
-            memberApplicationRepository
+            authCodeVerifier,
+            memberApplicationRepository,
+            authenticatedUserCache,
+            refreshTokenStore
     );
 
     @Test
@@ -162,7 +172,6 @@ class LoginServiceTest {
     void loginReturnsUserIdInResult() {
         String salt = "test-salt";
         ReflectionTestUtils.setField(loginService, "salt", salt);
-        ReflectionTestUtils.setField(loginService, "refreshExpireTime", 864000000L);
 
         Long userId = 7L;
         Long studentNumber = 2024000001L;
@@ -174,7 +183,7 @@ class LoginServiceTest {
         ReflectionTestUtils.setField(user, "userUuid", userUuid);
 
         when(userRepository.findByStudentNumberAndDeletedAtIsNull(studentNumber)).thenReturn(Optional.of(user));
-        when(jwtProvider.createToken(userUuid, String.valueOf(studentNumber), Role.ROLE_ADMIN))
+        when(jwtProvider.createToken(eq(userUuid), eq(String.valueOf(studentNumber)), eq(Role.ROLE_ADMIN), anyString()))
                 .thenReturn(new TokenInfo("access-token", "refresh-token"));
 
         LoginService.LoginResult result = loginService.login(new UserLoginRequest(studentNumber, "password1234"));
@@ -183,23 +192,108 @@ class LoginServiceTest {
         assertThat(result.name()).isEqualTo("관리자");
         assertThat(result.email()).isEqualTo("admin@example.com");
         assertThat(result.role()).isEqualTo(Role.ROLE_ADMIN.name());
-        verify(redisUtil).setDataExpire("refresh:" + userId, "refresh-token", 864000L);
+        ArgumentCaptor<String> sessionId = ArgumentCaptor.forClass(String.class);
+        verify(jwtProvider).createToken(eq(userUuid), eq(String.valueOf(studentNumber)), eq(Role.ROLE_ADMIN), sessionId.capture());
+        verify(refreshTokenStore).createSession(userId, sessionId.getValue(), "refresh-token");
+    }
+
+    @Test
+    void refreshRotatesTokenWithinSameSession() {
+        User user = refreshableUser();
+        when(jwtProvider.createToken(REFRESH_USER_UUID, "20240002", Role.ROLE_USER, "session-1"))
+                .thenReturn(new TokenInfo("new-access", "new-refresh"));
+        when(refreshTokenStore.rotate(user.getUserId(), "session-1", "old-refresh", "new-refresh"))
+                .thenReturn(RefreshTokenStore.RotationResult.ROTATED);
+
+        TokenInfo result = loginService.refresh("old-refresh");
+
+        assertThat(result.refreshToken()).isEqualTo("new-refresh");
+    }
+
+    @Test
+    void refreshRejectsReusedToken() {
+        User user = refreshableUser();
+        when(jwtProvider.createToken(REFRESH_USER_UUID, "20240002", Role.ROLE_USER, "session-1"))
+                .thenReturn(new TokenInfo("new-access", "new-refresh"));
+        when(refreshTokenStore.rotate(user.getUserId(), "session-1", "old-refresh", "new-refresh"))
+                .thenReturn(RefreshTokenStore.RotationResult.REUSED);
+
+        assertThatThrownBy(() -> loginService.refresh("old-refresh"))
+                .isInstanceOfSatisfying(BaseException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.UNAUTHORIZED));
+    }
+
+    @Test
+    void resetPasswordRejectsMismatchedAuthCode() {
+        User user = new User("user@example.com", 20240003L, "encoded-password");
+        when(userRepository.findByStudentNumberAndDeletedAtIsNull(20240003L)).thenReturn(Optional.of(user));
+        when(authCodeVerifier.consume("user@example.com", "654321")).thenReturn(AuthCodeVerifier.Result.MISMATCHED);
+
+        assertThatThrownBy(() -> loginService.resetPassword(
+                new PasswordResetRequest(20240003L, "user@example.com", "654321", "new-password")))
+                .isInstanceOfSatisfying(BaseException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.UNAUTHORIZED));
+
+        verify(refreshTokenStore, never()).revokeAll(any());
+        assertThat(user.getPassword()).isEqualTo("encoded-password");
+    }
+
+    @Test
+    void resetPasswordConsumesAuthCodeInSingleCheck() {
+        ReflectionTestUtils.setField(loginService, "salt", "test-salt");
+        User user = new User("user@example.com", 20240003L, "encoded-password");
+        ReflectionTestUtils.setField(user, "userId", 3L);
+        when(userRepository.findByStudentNumberAndDeletedAtIsNull(20240003L)).thenReturn(Optional.of(user));
+        when(authCodeVerifier.consume("user@example.com", "123456")).thenReturn(AuthCodeVerifier.Result.MATCHED);
+
+        loginService.resetPassword(new PasswordResetRequest(20240003L, "user@example.com", "123456", "new-password"));
+
+        // 확인과 소모는 consume 한 번으로 끝나며 별도의 verify 호출은 없다
+        verify(authCodeVerifier, never()).verify(anyString(), anyString());
+        verify(refreshTokenStore).revokeAll(3L);
+        assertThat(user.getPassword()).isNotEqualTo("encoded-password");
+    }
+
+    @Test
+    void logoutWithoutRefreshTokenRevokesAllSessions() {
+        loginService.logout(3L, null);
+
+        verify(refreshTokenStore).revokeAll(3L);
+        verify(authenticatedUserCache).evictByUserId(3L);
     }
 
     @Test
     void deleteUserInvalidatesRefreshTokenAndSoftDeletesUser() {
         Long userId = 1L;
+        UUID userUuid = UUID.fromString("22222222-2222-2222-2222-222222222222");
         User user = new User("user@example.com", 20240001L, "encoded-password");
+        ReflectionTestUtils.setField(user, "userUuid", userUuid);
         when(userRepository.findByUserIdAndDeletedAtIsNull(userId)).thenReturn(Optional.of(user));
 
         loginService.deleteUser(userId);
 
-        verify(redisUtil).deleteData("refresh:" + userId);
+        verify(refreshTokenStore).revokeAll(userId);
+        verify(authenticatedUserCache).evictAfterCommit(userUuid);
         assertThat(user.getDeletedAt()).isNotNull();
         assertThat(user.getMemberStatus()).isEqualTo(MemberStatus.WITHDRAWN);
         verify(userRepository, never()).delete(any(User.class));
     }
 
+    private static final UUID REFRESH_USER_UUID = UUID.fromString("33333333-3333-3333-3333-333333333333");
+
+    private User refreshableUser() {
+        User user = new User("user@example.com", 20240002L, "encoded-password");
+        ReflectionTestUtils.setField(user, "userId", 3L);
+        ReflectionTestUtils.setField(user, "userUuid", REFRESH_USER_UUID);
+        Claims claims = Jwts.claims()
+                .subject(REFRESH_USER_UUID.toString())
+                .add(JwtProvider.SESSION_CLAIM, "session-1")
+                .build();
+        when(jwtProvider.parseClaims("old-refresh")).thenReturn(Optional.of(claims));
+        when(userRepository.findByUserUuidAndDeletedAtIsNull(REFRESH_USER_UUID)).thenReturn(Optional.of(user));
+        return user;
+    }
+
     private static MemberApplication acceptedApplication(Long studentNumber, String nickname) {
         MemberApplication application = MemberApplication.builder()
                 .studentNumber(studentNumber)